@@ -0,0 +1,67 @@
+package org.example.expert.aop;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 접근 로그 이벤트를 재사용하는 StringBuilder에 한 줄로 기록하는 인코더입니다.
+ * 날짜 문자열은 초가 바뀔 때만 새로 만들고, 밀리초와 숫자는 직접 기록하여 이벤트마다 객체를 만들지 않습니다.
+ * 단일 작성 스레드에서만 사용합니다.
+ */
+class AccessLogEncoder {
+
+    private static final DateTimeFormatter SECOND_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final ZoneId zoneId;
+    private long cachedSecond = Long.MIN_VALUE;
+    private String cachedSecondText = "";
+
+    AccessLogEncoder(ZoneId zoneId) {
+        this.zoneId = zoneId;
+    }
+
+    /**
+     * 이벤트를 "시각 user=ID METHOD URI handler=핸들러 took=처리시간us result=결과" 형식으로 기록합니다.
+     *
+     * @param event 접근 로그 이벤트
+     * @param out 기록할 버퍼 (호출 전에 비워 둠)
+     */
+    void encode(AccessLogEvent event, StringBuilder out) {
+        appendTimestamp(event.timestampMillis, out);
+        out.append(" user=");
+        if (event.userId < 0) {
+            out.append('-');
+        } else {
+            out.append(event.userId);
+        }
+        out.append(' ').append(event.httpMethod == null ? "-" : event.httpMethod)
+                .append(' ').append(event.requestUri == null ? "-" : event.requestUri)
+                .append(" handler=").append(event.handler)
+                .append(" took=").append(event.elapsedNanos / 1_000L).append("us")
+                .append(" result=");
+        if (event.errorType == null) {
+            out.append("OK");
+        } else {
+            out.append(event.errorType.getSimpleName());
+        }
+    }
+
+    private void appendTimestamp(long epochMillis, StringBuilder out) {
+        long second = Math.floorDiv(epochMillis, 1000L);
+        if (second != cachedSecond) {
+            cachedSecond = second;
+            cachedSecondText = LocalDateTime.ofInstant(Instant.ofEpochSecond(second), zoneId).format(SECOND_FORMATTER);
+        }
+        int millis = (int) Math.floorMod(epochMillis, 1000L);
+        out.append(cachedSecondText).append('.');
+        if (millis < 100) {
+            out.append('0');
+        }
+        if (millis < 10) {
+            out.append('0');
+        }
+        out.append(millis);
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.expert.aop;
+
+/**
+ * 접근 로그 링 버퍼의 슬롯에 미리 만들어 두고 재사용하는 이벤트 객체입니다.
+ * 요청 스레드에서는 기본형 값과 이미 존재하는 문자열 참조만 담습니다.
+ */
+class AccessLogEvent {
+
+    long timestampMillis; // 요청 시각 (epoch ms)
+    long userId; // 사용자 ID (인증되지 않은 요청이면 -1)
+    String handler; // "컨트롤러.메서드" (메서드별로 한 번만 생성된 문자열)
+    String httpMethod;
+    String requestUri;
+    long elapsedNanos; // 처리 시간
+    Class<?> errorType; // 예외 타입 (정상 처리 시 null)
+
+    void clear() {
+        handler = null;
+        httpMethod = null;
+        requestUri = null;
+        errorType = null;
+    }
+}
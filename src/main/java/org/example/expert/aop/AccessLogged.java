@@ -0,0 +1,17 @@
+package org.example.expert.aop;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 접근 로그를 남길 컨트롤러(클래스 전체) 또는 핸들러 메서드를 표시합니다.
+ * 기록은 AccessLoggingAspect가 담당합니다.
+ */
+@Documented
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AccessLogged {
+}
@@ -0,0 +1,177 @@
+package org.example.expert.aop;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.domain.common.concurrent.RingBuffer;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link AccessLogged}가 붙은 컨트롤러의 접근 로그를 기록하는 AOP 클래스입니다.
+ *
+ * 요청 스레드에서는 시각, 사용자 ID, 처리 시간 같은 기본형 값과 이미 존재하는 문자열 참조만
+ * 링 버퍼의 미리 만들어 둔 이벤트에 담습니다. 문자열 조립과 로그 출력은 작성 스레드가 일정 주기로 처리합니다.
+ * 버퍼가 가득 차면 기다리지 않고 버리며 건수를 기록합니다.
+ */
+@Slf4j(topic = "AccessLog")
+@Aspect
+@Component
+public class AccessLoggingAspect {
+
+    private final RingBuffer<AccessLogEvent> buffer;
+    private final Map<Method, String> handlerNames = new ConcurrentHashMap<>(); // 메서드별 "컨트롤러.메서드" 문자열
+    private final AtomicLong droppedCount = new AtomicLong(); // 버퍼가 가득 차 버린 누적 건수
+    private final AccessLogEncoder encoder = new AccessLogEncoder(ZoneId.systemDefault()); // 작성 스레드 전용
+    private final StringBuilder line = new StringBuilder(256); // 작성 스레드 전용 재사용 버퍼
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "access-log-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public AccessLoggingAspect(
+            @Value("${access-log.buffer-size:16384}") int bufferSize,
+            @Value("${access-log.flush-interval:PT0.2S}") Duration flushInterval
+    ) {
+        this.buffer = new RingBuffer<>(bufferSize, AccessLogEvent::new);
+        long intervalMillis = flushInterval.toMillis();
+        writer.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 컨트롤러 메서드 실행 시간을 측정하고 접근 로그 이벤트를 버퍼에 넣습니다.
+     *
+     * @param joinPoint 현재 실행 중인 메서드에 대한 정보입니다.
+     * @return 컨트롤러 메서드의 반환 값
+     * @throws Throwable 컨트롤러 메서드에서 발생한 예외 (그대로 전달)
+     */
+    @Around("@within(org.example.expert.aop.AccessLogged) || @annotation(org.example.expert.aop.AccessLogged)")
+    public Object logAccess(ProceedingJoinPoint joinPoint) throws Throwable {
+        long startedAt = System.nanoTime();
+        Class<?> errorType = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            errorType = e.getClass();
+            throw e;
+        } finally {
+            record(joinPoint, System.nanoTime() - startedAt, errorType);
+        }
+    }
+
+    /**
+     * 버퍼가 가득 차 버린 누적 건수를 반환합니다.
+     *
+     * @return long 누적 건수
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * 출력 대기 중인 접근 로그 수를 반환합니다.
+     *
+     * @return int 대기 건수
+     */
+    public int getBufferDepth() {
+        return buffer.size();
+    }
+
+    /**
+     * 애플리케이션 종료 시 작성 스레드를 멈추고 남은 로그를 출력합니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+        if (writer.awaitTermination(5, TimeUnit.SECONDS)) {
+            flush();  // 작성 스레드가 종료되었으므로 현재 스레드가 유일한 소비자
+        }
+    }
+
+    private void record(ProceedingJoinPoint joinPoint, long elapsedNanos, Class<?> errorType) {
+        long sequence = buffer.tryClaim();
+        if (sequence < 0) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+
+        AccessLogEvent event = buffer.get(sequence);
+        try {
+            event.timestampMillis = System.currentTimeMillis();
+            event.userId = currentUserId();
+            event.handler = handlerName(((MethodSignature) joinPoint.getSignature()).getMethod());
+            event.elapsedNanos = elapsedNanos;
+            event.errorType = errorType;
+
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            if (attributes instanceof ServletRequestAttributes servletAttributes) {
+                HttpServletRequest request = servletAttributes.getRequest();
+                event.httpMethod = request.getMethod();
+                event.requestUri = request.getRequestURI();
+            } else {
+                event.httpMethod = null;
+                event.requestUri = null;
+            }
+        } finally {
+            buffer.publish(sequence);  // 할당한 슬롯은 반드시 공개해야 소비가 멈추지 않음
+        }
+    }
+
+    private String handlerName(Method method) {
+        String name = handlerNames.get(method);
+        if (name == null) {
+            name = handlerNames.computeIfAbsent(method,
+                    m -> m.getDeclaringClass().getSimpleName() + "." + m.getName());
+        }
+        return name;
+    }
+
+    private static long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser && authUser.getId() != null) {
+            return authUser.getId();
+        }
+        return -1L;
+    }
+
+    /**
+     * 버퍼의 이벤트를 모두 한 줄씩 출력합니다. 작성 스레드(종료 후에는 종료 스레드)에서만 호출됩니다.
+     */
+    private void flush() {
+        try {
+            while (buffer.drain(this::write, 1024) > 0) {
+                // 버퍼가 빌 때까지 반복
+            }
+        } catch (RuntimeException e) {
+            log.warn("접근 로그 출력 실패", e);  // 예외로 주기 작업이 중단되지 않도록 함
+        }
+    }
+
+    private void write(AccessLogEvent event) {
+        line.setLength(0);
+        encoder.encode(event, line);
+        event.clear();
+        log.info("Access Log - {}", line);
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.expert.aop;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * org.example.expert.domain.*.controller 패키지의 모든 컨트롤러 메서드 처리 시간을 기록하는 AOP 클래스입니다.
+ *
+ * 메서드별 타이머(성공/실패)는 애플리케이션 시작 시 미리 등록하므로,
+ * 요청 처리 중에는 맵 조회와 타이머 기록만 수행하며 객체를 할당하지 않습니다.
+ */
+@Aspect
+@Component
+public class ControllerMetricsAspect {
+
+    private static final String TIMER_NAME = "app.controller.duration";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Timer[]> timers = new ConcurrentHashMap<>(); // 메서드 -> [성공, 실패] 타이머
+
+    public ControllerMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 애플리케이션 시작 시 매핑된 모든 컨트롤러 메서드의 타이머를 미리 등록합니다.
+     *
+     * @param event 애플리케이션 준비 완료 이벤트
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerTimers(ApplicationReadyEvent event) {
+        RequestMappingHandlerMapping handlerMapping =
+                event.getApplicationContext().getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+        handlerMapping.getHandlerMethods().values().stream()
+                .map(handlerMethod -> handlerMethod.getMethod())
+                .filter(method -> method.getDeclaringClass().getPackageName().matches("org\\.example\\.expert\\.domain\\.[^.]+\\.controller"))
+                .forEach(this::timersFor);
+    }
+
+    /**
+     * 컨트롤러 메서드 실행 시간을 결과(성공/실패)별 타이머에 기록합니다.
+     *
+     * @param joinPoint 현재 실행 중인 메서드에 대한 정보입니다.
+     * @return 컨트롤러 메서드의 반환 값
+     * @throws Throwable 컨트롤러 메서드에서 발생한 예외 (그대로 전달)
+     */
+    @Around("within(org.example.expert.domain.*.controller..*)")
+    public Object recordDuration(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer[] methodTimers = timersFor(((MethodSignature) joinPoint.getSignature()).getMethod());
+        long startedAt = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            methodTimers[failed ? 1 : 0].record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer[] timersFor(Method method) {
+        Timer[] methodTimers = timers.get(method);
+        if (methodTimers == null) {
+            methodTimers = timers.computeIfAbsent(method, m -> new Timer[]{timer(m, "SUCCESS"), timer(m, "ERROR")});
+        }
+        return methodTimers;
+    }
+
+    private Timer timer(Method method, String outcome) {
+        return Timer.builder(TIMER_NAME)
+                .description("컨트롤러 메서드 처리 시간")
+                .tag("controller", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
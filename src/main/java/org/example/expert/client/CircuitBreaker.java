@@ -0,0 +1,64 @@
+package org.example.expert.client;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 외부 API 호출용 단순 서킷 브레이커입니다.
+ * 연속 실패가 기준 횟수에 도달하면 일정 시간 동안 호출을 차단(OPEN)하고,
+ * 차단 시간이 지나면 한 번의 시험 호출(HALF_OPEN)로 복구 여부를 판단합니다.
+ */
+class CircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openDuration.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * 호출 가능 여부를 확인합니다.
+     * OPEN 상태에서 차단 시간이 지났으면 HALF_OPEN으로 전환하고 한 번의 시험 호출을 허용합니다.
+     *
+     * @return boolean 호출 가능 여부
+     */
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.millis() - openedAt < openMillis) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            return true;
+        }
+        return state == State.CLOSED;  // HALF_OPEN이면 시험 호출 결과를 기다림
+    }
+
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.millis();
+            consecutiveFailures = 0;
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+}
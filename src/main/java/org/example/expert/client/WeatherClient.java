@@ -1,57 +1,295 @@
 package org.example.expert.client;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.util.StringUtils;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
 import java.net.URI;
-import java.time.LocalDate;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.MonthDay;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
+@Slf4j
 @Component
 public class WeatherClient {
 
-    private final RestTemplate restTemplate;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI weatherApiUri;
+    private final Duration requestTimeout;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final CircuitBreaker circuitBreaker;
+    private final String fallbackWeather; // 날씨 데이터를 전혀 얻을 수 없을 때 사용할 값 (비어 있으면 예외)
+    private final Clock clock;
+    private final Timer successTimer; // 성공한 API 호출 시간
+    private final Timer failureTimer; // 실패한 API 호출 시간
+
+    private volatile Map<MonthDay, String> snapshot = Map.of(); // 마지막으로 성공한 날짜별 날씨 데이터
+    private CompletableFuture<Boolean> inFlight; // 진행 중인 갱신 (중복 호출 방지)
+
+    @Autowired
+    public WeatherClient(
+            ObjectMapper objectMapper,
+            @Value("${weather.api.base-url:https://f-api.github.io}") String baseUrl,
+            @Value("${weather.api.connect-timeout:PT2S}") Duration connectTimeout,
+            @Value("${weather.api.request-timeout:PT3S}") Duration requestTimeout,
+            @Value("${weather.api.max-attempts:3}") int maxAttempts,
+            @Value("${weather.api.retry-backoff:PT0.2S}") Duration retryBackoff,
+            @Value("${weather.api.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${weather.api.circuit.open-duration:PT30S}") Duration openDuration,
+            @Value("${weather.api.fallback:}") String fallbackWeather,
+            MeterRegistry meterRegistry
+    ) {
+        this(objectMapper, baseUrl, connectTimeout, requestTimeout, maxAttempts, retryBackoff,
+                failureThreshold, openDuration, fallbackWeather, Clock.systemDefaultZone(), meterRegistry);
+    }
+
+    WeatherClient(
+            ObjectMapper objectMapper, String baseUrl, Duration connectTimeout, Duration requestTimeout,
+            int maxAttempts, Duration retryBackoff, int failureThreshold,
+            Duration openDuration, String fallbackWeather, Clock clock, MeterRegistry meterRegistry
+    ) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .build();
+        this.objectMapper = objectMapper;
+        this.weatherApiUri = buildWeatherApiUri(baseUrl);
+        this.requestTimeout = requestTimeout;
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.retryBackoff = retryBackoff;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDuration, Clock.systemUTC());
+        this.fallbackWeather = fallbackWeather;
+        this.clock = clock;
+
+        this.successTimer = Timer.builder("app.weather.fetch").tag("outcome", "success").register(meterRegistry);
+        this.failureTimer = Timer.builder("app.weather.fetch").tag("outcome", "failure").register(meterRegistry);
+        // 0: CLOSED, 1: OPEN, 2: HALF_OPEN
+        Gauge.builder("app.weather.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal()).register(meterRegistry);
+    }
+
+    /**
+     * 적재된 데이터에 오늘의 날씨가 있으면 반환하는 메서드입니다.
+     *
+     * API를 호출하지 않으므로 호출 스레드를 막지 않습니다.
+     *
+     * @return 오늘의 날씨 정보 (적재되지 않았거나 없으면 빈 Optional)
+     */
+    public Optional<String> findTodayWeather() {
+        return findWeather(MonthDay.now(clock));
+    }
+
+    /**
+     * 적재된 데이터에 특정 날짜의 날씨가 있으면 반환하는 메서드입니다.
+     *
+     * API를 호출하지 않으므로 호출 스레드를 막지 않습니다.
+     *
+     * @param date 조회할 날짜 (월-일)
+     * @return 해당 날짜의 날씨 정보 (적재되지 않았거나 없으면 빈 Optional)
+     */
+    public Optional<String> findWeather(MonthDay date) {
+        return Optional.ofNullable(snapshot.get(date));
+    }
+
+    /**
+     * 날씨 데이터가 한 번이라도 적재되었는지 확인하는 메서드입니다.
+     * 적재된 데이터에 없는 날짜는 다시 조회해도 채울 수 없음을 판단하는 데 사용합니다.
+     *
+     * @return boolean 적재 여부
+     */
+    public boolean isLoaded() {
+        return !snapshot.isEmpty();
+    }
+
+    /**
+     * 날씨 데이터를 얻을 수 없을 때 사용할 대체 값(weather.api.fallback)을 반환하는 메서드입니다.
+     *
+     * @return 대체 값 (설정되지 않았으면 빈 Optional)
+     */
+    public Optional<String> getFallbackWeather() {
+        return StringUtils.hasText(fallbackWeather) ? Optional.of(fallbackWeather) : Optional.empty();
+    }
+
+    /**
+     * 날씨 데이터 갱신을 시작하는 메서드입니다.
+     *
+     * 애플리케이션 시작 시와 일정 주기(weather.refresh-interval, 기본 6시간)마다 실행되며, 완료를 기다리지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${weather.refresh-interval:PT6H}", initialDelayString = "${weather.refresh-interval:PT6H}")
+    public void refresh() {
+        refreshAsync();
+    }
+
+    /**
+     * 날씨 API에서 전체 날씨 데이터를 받아 날짜별 데이터로 교체하는 메서드입니다.
+     *
+     * 이미 갱신이 진행 중이면 같은 작업을 반환합니다.
+     * 호출이나 파싱에 실패하면 마지막으로 성공한 데이터를 그대로 유지합니다.
+     *
+     * @return CompletableFuture<Boolean> 데이터 교체 성공 여부
+     */
+    public synchronized CompletableFuture<Boolean> refreshAsync() {
+        if (inFlight != null && !inFlight.isDone()) {
+            return inFlight;
+        }
+
+        inFlight = fetchWithRetry(1).handle((loaded, e) -> {
+            if (e != null) {
+                log.warn("날씨 데이터 갱신 실패, 기존 데이터를 유지합니다. (보유 건수: {}) - {}", snapshot.size(), unwrap(e).getMessage());
+                return false;
+            }
+            if (loaded.isEmpty()) {
+                log.warn("날씨 데이터가 비어 있어 기존 데이터를 유지합니다.");
+                return false;
+            }
+            snapshot = Map.copyOf(loaded);
+            log.info("날씨 데이터 적재 완료 - 건수: {}", loaded.size());
+            return true;
+        });
+        return inFlight;
     }
 
     /**
-     * 오늘의 날씨 정보를 가져오는 메서드입니다.
+     * 날씨 API를 호출하고, 실패하면 지수 백오프와 지터를 적용하여 최대 maxAttempts회까지 재시도합니다.
+     * 서킷이 열려 있는 경우에는 재시도하지 않습니다.
      *
-     * 날씨 API를 호출하여 오늘 날짜에 해당하는 날씨 정보를 반환합니다.
+     * @param attempt 현재 시도 횟수 (1부터 시작)
+     * @return CompletableFuture<Map<MonthDay, String>> 날짜별 날씨 데이터
+     */
+    private CompletableFuture<Map<MonthDay, String>> fetchWithRetry(int attempt) {
+        return fetchOnce().<CompletableFuture<Map<MonthDay, String>>>handle((result, e) -> {
+            if (e == null) {
+                return CompletableFuture.completedFuture(result);
+            }
+            Throwable cause = unwrap(e);
+            if (attempt >= maxAttempts || cause instanceof RejectedCallException) {
+                return CompletableFuture.<Map<MonthDay, String>>failedFuture(cause);
+            }
+
+            long delayMillis = backoffMillis(attempt);
+            log.debug("날씨 API 호출 실패, {}ms 후 재시도 ({}/{}) - {}", delayMillis, attempt, maxAttempts, cause.getMessage());
+            return CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS))
+                    .thenCompose(ignored -> fetchWithRetry(attempt + 1));
+        }).thenCompose(Function.identity());
+    }
+
+    /**
+     * 날씨 API를 한 번 비동기로 호출합니다.
+     * 서킷 브레이커를 거친 뒤 요청 시간 제한을 적용하여 호출합니다.
+     * 갱신은 refreshAsync에서 한 번에 하나만 진행되므로 별도의 동시 호출 수 제한은 두지 않습니다.
      *
-     * @return 오늘의 날씨 정보 문자열
-     * @throws ServerException 날씨 데이터를 가져오는 과정에서 오류가 발생한 경우
+     * @return CompletableFuture<Map<MonthDay, String>> 날짜별 날씨 데이터
      */
-    public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+    private CompletableFuture<Map<MonthDay, String>> fetchOnce() {
+        if (!circuitBreaker.tryAcquire()) {
+            return CompletableFuture.failedFuture(new RejectedCallException("날씨 API 호출이 일시 차단되었습니다. (circuit open)"));
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(weatherApiUri)
+                .timeout(requestTimeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
 
-        if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
-            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
+        long startedAt = System.nanoTime();
+        CompletableFuture<HttpResponse<byte[]>> response;
+        try {
+            response = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
         }
 
-        WeatherDto[] weatherArray = responseEntity.getBody();
-        if (weatherArray == null || weatherArray.length == 0) {
-            throw new ServerException("날씨 데이터가 없습니다.");
+        return response
+                .thenApply(this::parseWeather)
+                .whenComplete((result, e) -> {
+                    if (e == null) {
+                        circuitBreaker.onSuccess();
+                        successTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    } else {
+                        circuitBreaker.onFailure();
+                        failureTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    }
+                });
+    }
+
+    /**
+     * 날씨 API 응답을 날짜별 날씨 데이터로 변환합니다.
+     *
+     * @param response 날씨 API 응답
+     * @return 날짜별 날씨 데이터 (형식이 잘못된 항목은 제외)
+     * @throws ServerException 응답이 정상이 아니거나 본문을 해석할 수 없는 경우
+     */
+    private Map<MonthDay, String> parseWeather(HttpResponse<byte[]> response) {
+        if (response.statusCode() != 200) {
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + response.statusCode());
         }
 
-        String today = getCurrentDate();
+        WeatherDto[] weatherArray;
+        try {
+            weatherArray = objectMapper.readValue(response.body(), WeatherDto[].class);
+        } catch (IOException e) {
+            throw new ServerException("날씨 데이터 형식이 올바르지 않습니다.");
+        }
+        if (weatherArray == null) {
+            return Map.of();
+        }
 
+        Map<MonthDay, String> result = new HashMap<>();
         for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+            if (weatherDto.getDate() == null || weatherDto.getWeather() == null) {
+                continue;
+            }
+            try {
+                result.put(MonthDay.parse(weatherDto.getDate(), DATE_FORMATTER), weatherDto.getWeather());
+            } catch (DateTimeParseException e) {
+                log.debug("날씨 데이터 날짜 형식 오류 - {}", weatherDto.getDate());
             }
         }
+        return result;
+    }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    /**
+     * 재시도 대기 시간을 계산합니다. (기본 대기 시간 × 2^(시도-1) × 0.5~1.5 지터)
+     *
+     * @param attempt 실패한 시도 횟수
+     * @return long 대기 시간 (ms)
+     */
+    private long backoffMillis(int attempt) {
+        long base = retryBackoff.toMillis() << (attempt - 1);
+        return (long) (base * ThreadLocalRandom.current().nextDouble(0.5, 1.5));
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
     }
 
     /**
@@ -59,11 +297,12 @@ public class WeatherClient {
      *
      * 날씨 정보를 가져오기 위한 API 요청 URI를 빌드합니다.
      *
+     * @param baseUrl 날씨 API 기본 주소
      * @return 날씨 API의 URI
      */
-    private URI buildWeatherApiUri() {
+    private static URI buildWeatherApiUri(String baseUrl) {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(baseUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
@@ -71,12 +310,12 @@ public class WeatherClient {
     }
 
     /**
-     * 현재 날짜를 "MM-dd" 형식으로 반환하는 메서드입니다.
-     *
-     * @return 현재 날짜 문자열 (형식: MM-dd)
+     * 서킷 브레이커로 호출하지 않은 경우의 예외입니다. (재시도 대상 아님)
      */
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+    private static class RejectedCallException extends ServerException {
+
+        private RejectedCallException(String message) {
+            super(message);
+        }
     }
 }
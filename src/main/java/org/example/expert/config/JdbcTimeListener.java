@@ -0,0 +1,33 @@
+package org.example.expert.config;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * 세션의 JDBC 문장/배치 실행 시간을 현재 스레드의 {@link QueryCounter}에 집계합니다.
+ * Hibernate가 세션마다 새로 생성하므로 시작 시각을 필드에 보관해도 안전합니다.
+ */
+public class JdbcTimeListener extends BaseSessionEventListener {
+
+    private long statementStartedAt;
+    private long batchStartedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        QueryCounter.recordJdbcTime(System.nanoTime() - statementStartedAt);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        QueryCounter.recordJdbcTime(System.nanoTime() - batchStartedAt);
+    }
+}
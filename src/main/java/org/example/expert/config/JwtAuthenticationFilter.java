@@ -1,15 +1,12 @@
 package org.example.expert.config;
 
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.expert.domain.common.dto.AuthUser;
-import org.example.expert.domain.user.enums.UserRole;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.example.expert.domain.auth.revocation.TokenRevocationRegistry;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -22,6 +19,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
     /**
      * 요청에 대한 JWT 인증 필터를 적용하는 메서드입니다.
@@ -38,29 +36,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request); // 요청에서 토큰을 추출
 
-        // 토큰이 존재하고 유효한 경우
-        if (token != null && jwtUtil.validateToken(token)) {
+        if (token != null) {
             try {
-                Claims claims = jwtUtil.extractClaims(token); // 토큰에서 클레임 추출
-
-                // Claims에서 userId, email, nickname, userRole을 가져옴
-                Long userId = claims.get("userId", Long.class);
-                String email = claims.get("email", String.class);
-                String nickname = claims.get("nickname", String.class);
-                UserRole userRole = UserRole.of(claims.get("userRole", String.class));
-
-                // 비밀번호가 없다면 null을 전달
-                String password = null;
-
-                // AuthUser 객체 생성
-                AuthUser authUser = new AuthUser(userId, email, nickname, userRole, password);
-
-                // 인증 객체 생성
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(authUser, null, authUser.getAuthorities());
-
-                // SecurityContext에 인증 정보 설정
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                // 토큰을 한 번만 파싱하여 검증하고, 유효하며 폐기되지 않은 경우 SecurityContext에 인증 정보 설정
+                jwtUtil.verify(token)
+                        .filter(verified -> !tokenRevocationRegistry.isRevoked(verified))
+                        .ifPresent(verified -> SecurityContextHolder.getContext().setAuthentication(verified.toAuthentication()));
             } catch (Exception e) {
                 log.error("JWT validation failed", e); // JWT 검증 실패 로그 기록
                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid or expired token"); // 401 오류 응답
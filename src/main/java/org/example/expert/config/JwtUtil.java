@@ -1,42 +1,106 @@
 package org.example.expert.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j(topic = "JwtUtil")
 @Component
 public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60 minutes
+    public static final long TOKEN_TIME = 60 * 60 * 1000L; // 60 minutes
+    private static final String TOKEN_VERSION_CLAIM = "tokenVersion"; // 사용자 토큰 버전 클레임
 
     @Value("${jwt.secret.key}")
     private String secretKey; // JWT 서명에 사용될 비밀 키
     private Key key; // 서명에 사용할 Key 객체
+    private JwtParser parser; // 서명 검증용 파서 (스레드 안전하므로 재사용)
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256; // 사용될 서명 알고리즘
 
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize; // 검증된 토큰 캐시 최대 항목 수
+    private Cache<String, VerifiedToken> verifiedTokens; // 토큰 해시 -> 검증된 토큰 정보 (토큰 만료 시각에 제거)
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+    private Timer cachedVerifyTimer; // 캐시 적중 검증 시간
+    private Timer parsedVerifyTimer; // 파싱/서명 검증 시간
+    private Timer invalidVerifyTimer; // 유효하지 않은 토큰 검증 시간
+
     /**
      * JWT Util 초기화 메서드.
-     * 비밀 키를 Base64로 디코딩하여 Key 객체를 생성합니다.
+     * 비밀 키를 Base64로 디코딩하여 Key 객체를 생성하고, 파서와 검증된 토큰 캐시를 준비합니다.
      */
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes); // 비밀 키를 HMAC SHA-256 알고리즘에 맞게 설정
+        parser = Jwts.parserBuilder()
+                .setSigningKey(key) // 서명 키 설정
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String tokenHash, VerifiedToken verified, long currentTime) {
+                        // 토큰의 만료 시각(exp)까지만 보관
+                        long remainingMillis = verified.expiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0L));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String tokenHash, VerifiedToken verified, long currentTime, long currentDuration) {
+                        return expireAfterCreate(tokenHash, verified, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String tokenHash, VerifiedToken verified, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+
+        cachedVerifyTimer = verifyTimer("cached");
+        parsedVerifyTimer = verifyTimer("parsed");
+        invalidVerifyTimer = verifyTimer("invalid");
+    }
+
+    private Timer verifyTimer(String result) {
+        return Timer.builder("app.jwt.verify")
+                .description("JWT 검증 시간")
+                .tag("result", result)
+                .register(meterRegistry);
     }
 
     /**
@@ -46,17 +110,20 @@ public class JwtUtil {
      * @param email 사용자 이메일
      * @param nickname 사용자 닉네임
      * @param userRole 사용자 역할
+     * @param tokenVersion 사용자 토큰 버전 (사용자 전체 폐기 시 이보다 낮은 버전의 토큰이 폐기됨)
      * @return 생성된 JWT 토큰
      */
-    public String createToken(Long userId, String email, String nickname, UserRole userRole) {
+    public String createToken(Long userId, String email, String nickname, UserRole userRole, long tokenVersion) {
         Date date = new Date();
 
         return BEARER_PREFIX +
                 Jwts.builder()
                         .setSubject(String.valueOf(userId)) // 토큰의 주제(subject) 설정
+                        .setId(UUID.randomUUID().toString()) // 토큰 ID(jti) 설정 (폐기 시 사용)
                         .claim("email", email) // 이메일 클레임 추가
                         .claim("nickname", nickname) // 닉네임 클레임 추가
                         .claim("userRole", userRole) // 사용자 역할 클레임 추가
+                        .claim(TOKEN_VERSION_CLAIM, tokenVersion) // 사용자 토큰 버전 클레임 추가
                         .setExpiration(new Date(date.getTime() + TOKEN_TIME)) // 만료 시간 설정
                         .setIssuedAt(date) // 발급 시간 설정
                         .signWith(key, signatureAlgorithm) // 서명
@@ -78,7 +145,7 @@ public class JwtUtil {
                 .map(authority -> authority.getAuthority())
                 .orElse("USER")); // 기본 역할 USER로 설정
 
-        return createToken(userId, email, nickname, userRole); // 토큰 생성
+        return createToken(userId, email, nickname, userRole, 0L); // 토큰 생성
     }
 
     /**
@@ -102,13 +169,51 @@ public class JwtUtil {
      * @return 토큰에서 추출된 클레임
      */
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key) // 서명 키 설정
-                .build()
-                .parseClaimsJws(token) // 토큰 파싱
+        return parser.parseClaimsJws(token) // 토큰 파싱 (서명/만료 검증 포함)
                 .getBody(); // 클레임 반환
     }
 
+    /**
+     * JWT 토큰을 검증하고 검증된 토큰 정보를 반환하는 메서드입니다.
+     *
+     * 토큰은 한 번만 파싱하여 서명과 만료를 함께 검증합니다.
+     * 검증된 토큰은 해시를 키로 만료 시각까지 캐시하므로, 같은 토큰으로 다시 요청하면 파싱을 생략합니다.
+     * 캐시에는 변경할 수 없는 사용자 정보와 클레임만 보관하며, 인증 객체는 요청마다 {@link VerifiedToken#toAuthentication()}으로 새로 만듭니다.
+     * 폐기 여부는 확인하지 않습니다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰 정보 (서명이 올바르지 않거나 만료된 토큰이면 빈 Optional)
+     * @throws InvalidRequestException 토큰의 사용자 역할이 올바르지 않은 경우
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        long startedAt = System.nanoTime();
+        String tokenHash = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            cachedVerifyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return Optional.of(cached);
+        }
+
+        Claims claims;
+        try {
+            claims = extractClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            invalidVerifyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return Optional.empty(); // 유효하지 않거나 만료된 토큰
+        }
+
+        AuthUser authUser = toAuthUser(claims);
+        VerifiedToken verified = new VerifiedToken(
+                authUser,
+                claims.getId(),
+                tokenVersion(claims),
+                claims.getExpiration().getTime()
+        );
+        verifiedTokens.put(tokenHash, verified);
+        parsedVerifyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return Optional.of(verified);
+    }
+
     /**
      * JWT 토큰의 유효성을 검증하는 메서드입니다.
      *
@@ -117,10 +222,82 @@ public class JwtUtil {
      */
     public boolean validateToken(String token) {
         try {
-            Claims claims = extractClaims(token); // 클레임 추출
-            return !claims.getExpiration().before(new Date()); // 만료일이 현재 날짜 이후인 경우 true 반환
+            extractClaims(token); // 파싱 시 서명과 만료일을 함께 검증
+            return true;
         } catch (Exception e) {
             return false; // 유효하지 않은 토큰인 경우 false 반환
         }
     }
+
+    /**
+     * 검증된 클레임으로 인증 사용자 정보를 생성합니다.
+     *
+     * @param claims 검증된 클레임
+     * @return 인증 사용자 정보
+     */
+    private AuthUser toAuthUser(Claims claims) {
+        Long userId = Long.valueOf(claims.getSubject()); // 사용자 ID는 subject에 저장됨
+        String email = claims.get("email", String.class);
+        String nickname = claims.get("nickname", String.class);
+        UserRole userRole = UserRole.of(claims.get("userRole", String.class));
+
+        return new AuthUser(userId, email, nickname, userRole, null); // 비밀번호는 보관하지 않음
+    }
+
+    /**
+     * 클레임에서 사용자 토큰 버전을 추출합니다.
+     *
+     * @param claims 검증된 클레임
+     * @return 토큰 버전 (버전이 없는 이전 토큰이면 0)
+     */
+    private static long tokenVersion(Claims claims) {
+        Long tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Long.class);
+        return tokenVersion == null ? 0L : tokenVersion;
+    }
+
+    /**
+     * 캐시 키로 사용할 토큰의 SHA-256 해시를 계산합니다. (토큰 원문을 메모리에 보관하지 않기 위함)
+     *
+     * @param token JWT 토큰
+     * @return Base64로 인코딩된 해시
+     */
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // 모든 JVM은 SHA-256을 지원해야 함
+        }
+    }
+
+    /**
+     * 서명과 만료가 검증된 토큰 정보입니다.
+     * 같은 토큰을 쓰는 요청들이 함께 사용하므로 변경할 수 없는 값만 보관합니다.
+     *
+     * @param authUser 인증 사용자 정보
+     * @param jti 토큰 ID (jti가 없는 이전 토큰이면 null)
+     * @param tokenVersion 사용자 토큰 버전 (버전이 없는 이전 토큰이면 0)
+     * @param expiresAtMillis 만료 시각 (epoch ms)
+     */
+    public record VerifiedToken(AuthUser authUser, String jti, long tokenVersion, long expiresAtMillis) {
+
+        /**
+         * 사용자 ID를 반환합니다.
+         *
+         * @return 사용자 ID
+         */
+        public Long userId() {
+            return authUser.getId();
+        }
+
+        /**
+         * 요청의 SecurityContext에 설정할 인증 객체를 새로 생성합니다.
+         * 인증 객체는 변경할 수 있으므로(details, 인증 여부 등) 요청 간에 공유하지 않습니다.
+         *
+         * @return 새 인증 객체
+         */
+        public Authentication toAuthentication() {
+            return new UsernamePasswordAuthenticationToken(authUser, null, authUser.getAuthorities());
+        }
+    }
 }
@@ -0,0 +1,95 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.example.expert.aop.AccessLoggingAspect;
+import org.example.expert.domain.manager.log.AuditLogWriter;
+import org.example.expert.domain.todo.cache.TodoDetailCache;
+import org.example.expert.domain.todo.service.TodoWeatherEnricher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+
+    public static final String METRIC_PREFIX = "app."; // 애플리케이션 지표 이름 접두사
+    private static final Duration DEFAULT_MINIMUM_EXPECTED = Duration.ofMillis(1); // 히스토그램 최소 버킷 (기본)
+    private static final Duration MAXIMUM_EXPECTED = Duration.ofSeconds(10); // 히스토그램 최대 버킷
+    private static final Map<String, Duration> MINIMUM_EXPECTED = Map.of(
+            "app.jwt.verify", Duration.ofNanos(1_000), // 캐시 적중 검증은 마이크로초 단위
+            "app.controller.duration", Duration.ofNanos(10_000) // 캐시된 조회는 1ms 미만으로 끝남
+    );
+
+    /**
+     * 애플리케이션 타이머(app.*)에 p50/p95/p99와 히스토그램 버킷을 설정합니다.
+     * 백분위는 HdrHistogram 기반의 시간 창 히스토그램으로 계산되며, 기록 시 객체를 할당하지 않습니다.
+     * 최소 버킷은 타이머별로 지정하여 1ms 미만으로 끝나는 작업도 가장 낮은 버킷에 몰리지 않도록 합니다.
+     *
+     * @return MeterFilter 분포 통계 설정
+     */
+    @Bean
+    public MeterFilter applicationTimerPercentiles() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getType() != Meter.Type.TIMER || !id.getName().startsWith(METRIC_PREFIX)) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentiles(0.5, 0.95, 0.99)
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) MINIMUM_EXPECTED.getOrDefault(id.getName(), DEFAULT_MINIMUM_EXPECTED).toNanos())
+                        .maximumExpectedValue((double) MAXIMUM_EXPECTED.toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    /**
+     * 캐시, 백그라운드 큐, 로그 버퍼의 상태를 지표로 등록합니다. 값은 수집 시점에만 읽습니다.
+     *
+     * @return MeterBinder 상태 지표 등록기
+     */
+    @Bean
+    public MeterBinder applicationStateMetrics(
+            TodoDetailCache todoDetailCache,
+            TodoWeatherEnricher todoWeatherEnricher,
+            AuditLogWriter auditLogWriter,
+            AccessLoggingAspect accessLoggingAspect
+    ) {
+        return registry -> {
+            // Todo 단건 조회 캐시
+            Gauge.builder("app.todo.detail_cache.size", todoDetailCache, TodoDetailCache::size).register(registry);
+            FunctionCounter.builder("app.todo.detail_cache.hits", todoDetailCache, cache -> cache.stats().hitCount()).register(registry);
+            FunctionCounter.builder("app.todo.detail_cache.misses", todoDetailCache, cache -> cache.stats().missCount()).register(registry);
+            FunctionCounter.builder("app.todo.detail_cache.evictions", todoDetailCache, cache -> cache.stats().evictionCount()).register(registry);
+
+            // 날씨 채우기
+            Gauge.builder("app.todo.weather_enrich.queue_depth", todoWeatherEnricher, TodoWeatherEnricher::getQueueDepth).register(registry);
+            FunctionCounter.builder("app.todo.weather_enrich.dropped", todoWeatherEnricher, TodoWeatherEnricher::getDroppedCount).register(registry);
+            Gauge.builder("app.todo.weather_enrich.backfill_lag", todoWeatherEnricher, TodoWeatherEnricher::getBackfillLagSeconds)
+                    .baseUnit("seconds")
+                    .register(registry);
+
+            // 감사 로그
+            Gauge.builder("app.audit_log.buffer_depth", auditLogWriter, AuditLogWriter::getBufferDepth).register(registry);
+            FunctionCounter.builder("app.audit_log.dropped", auditLogWriter, AuditLogWriter::getDroppedCount).register(registry);
+            FunctionCounter.builder("app.audit_log.failed", auditLogWriter, AuditLogWriter::getFailedCount).register(registry);
+            FunctionCounter.builder("app.audit_log.written", auditLogWriter, AuditLogWriter::getWrittenCount).register(registry);
+
+            // 접근 로그
+            Gauge.builder("app.access_log.buffer_depth", accessLoggingAspect, AccessLoggingAspect::getBufferDepth).register(registry);
+            FunctionCounter.builder("app.access_log.dropped", accessLoggingAspect, AccessLoggingAspect::getDroppedCount).register(registry);
+        };
+    }
+}
@@ -1,19 +1,94 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * bcrypt 비밀번호 인코더입니다.
+ *
+ * 해시 계산은 CPU 코어 수만큼의 스레드를 가진 전용 풀에서 실행하여, 로그인이 몰려도 다른 요청이 CPU를 얻을 수 있게 합니다.
+ * 대기열이 가득 차면 기다리지 않고 바로 ServiceUnavailableException(503)을 던집니다.
+ */
 @Component
 public class PasswordEncoder {
 
+    private final int cost; // bcrypt 비용 (2^cost 회 반복)
+    private final Duration waitTimeout; // 해시 계산 결과를 기다리는 최대 시간
+    final ThreadPoolExecutor executor; // 해시 계산 전용 풀 (테스트에서 포화 상태를 만들기 위해 패키지 공개)
+    private final Timer encodeTimer; // 인코딩 시간 (대기 포함)
+    private final Timer matchesTimer; // 검증 시간 (대기 포함)
+    private final Counter rejectedCounter; // 포화로 거절한 건수
+
+    @Autowired
+    public PasswordEncoder(
+            @Value("${security.bcrypt.cost:10}") int cost,
+            @Value("${security.bcrypt.queue-capacity:64}") int queueCapacity,
+            @Value("${security.bcrypt.wait-timeout:PT5S}") Duration waitTimeout,
+            MeterRegistry meterRegistry
+    ) {
+        this(cost, Runtime.getRuntime().availableProcessors(), queueCapacity, waitTimeout, meterRegistry);
+    }
+
+    PasswordEncoder(int cost, int threads, int queueCapacity, Duration waitTimeout, MeterRegistry meterRegistry) {
+        if (cost < BCrypt.MIN_COST || cost > BCrypt.MAX_COST) {
+            throw new IllegalArgumentException("bcrypt cost는 " + BCrypt.MIN_COST + "~" + BCrypt.MAX_COST + " 사이여야 합니다: " + cost);
+        }
+        this.cost = cost;
+        this.waitTimeout = waitTimeout;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), // 대기열 크기 제한
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bcrypt-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy() // 포화 시 즉시 거절
+        );
+
+        this.encodeTimer = Timer.builder("app.password.hash").tag("operation", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("app.password.hash").tag("operation", "matches").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("app.password.pool.rejected").register(meterRegistry);
+        Gauge.builder("app.password.pool.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+        Gauge.builder("app.password.pool.queued", executor, pool -> pool.getQueue().size()).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
     /**
      * 비밀번호를 해시하여 인코딩하는 메서드입니다.
      *
      * @param rawPassword 인코딩할 원본 비밀번호
      * @return 인코딩된 비밀번호(해시 값)
+     * @throws ServiceUnavailableException 해시 계산 풀이 포화 상태인 경우
      */
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray()); // 비밀번호를 해시하여 문자열로 반환
+        return execute(encodeTimer, () -> BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray())); // 비밀번호를 해시하여 문자열로 반환
     }
 
     /**
@@ -22,9 +97,63 @@ public class PasswordEncoder {
      * @param rawPassword 원본 비밀번호
      * @param encodedPassword 인코딩된 비밀번호(해시 값)
      * @return 비밀번호가 일치하면 true, 그렇지 않으면 false
+     * @throws ServiceUnavailableException 해시 계산 풀이 포화 상태인 경우
      */
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword); // 비밀번호 검증
-        return result.verified; // 검증 결과 반환
+        return execute(matchesTimer, () -> BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword).verified); // 비밀번호 검증
+    }
+
+    /**
+     * 인코딩된 비밀번호의 비용이 설정된 비용과 달라 다시 해시해야 하는지 확인하는 메서드입니다.
+     *
+     * @param encodedPassword 인코딩된 비밀번호(해시 값, 예: $2a$10$...)
+     * @return 다시 해시해야 하면 true
+     */
+    public boolean needsUpgrade(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return true;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) != cost;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    /**
+     * 해시 계산 풀에서 작업을 실행하고 결과를 기다립니다.
+     *
+     * @param timer 대기 시간을 포함한 처리 시간을 기록할 타이머
+     * @param task 해시 계산 작업
+     * @return 작업 결과
+     */
+    private <T> T execute(Timer timer, Callable<T> task) {
+        long startedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            T result = future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServerException("비밀번호 처리 중 인터럽트가 발생했습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServerException("비밀번호 처리에 실패했습니다.");
+        }
     }
 }
@@ -0,0 +1,63 @@
+package org.example.expert.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행된 SQL 문장 수와 JDBC 실행 시간을 집계하고, 기준을 넘은 요청을 경고 로그로 남기는 필터입니다.
+ * N+1 조회처럼 요청당 문장 수가 늘어나는 경우를 운영 중에 찾기 위해 사용합니다.
+ */
+@Slf4j(topic = "QueryCount")
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final int warnThreshold;
+    private final long warnJdbcNanos;
+
+    public QueryCountFilter(
+            @Value("${query-count.warn-threshold:10}") int warnThreshold,
+            @Value("${query-count.warn-jdbc-time:PT0.5S}") Duration warnJdbcTime
+    ) {
+        this.warnThreshold = warnThreshold;
+        this.warnJdbcNanos = warnJdbcTime.toNanos();
+    }
+
+    /**
+     * 요청 처리 동안 현재 스레드의 SQL 문장 수와 JDBC 실행 시간을 집계합니다.
+     *
+     * @param request  HTTP 요청
+     * @param response HTTP 응답
+     * @param filterChain 필터 체인
+     * @throws ServletException 요청 처리 중 발생할 수 있는 예외
+     * @throws IOException 입출력 오류 발생 시 예외
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCounter.stop();
+            int statementCount = QueryCounter.getStatementCount();
+            long jdbcNanos = QueryCounter.getJdbcNanos();
+            if (statementCount > warnThreshold || jdbcNanos > warnJdbcNanos) {
+                log.warn("SQL 문장 수 또는 JDBC 시간 기준 초과 - {} {} statements={} jdbc={}ms",
+                        request.getMethod(), request.getRequestURI(), statementCount, TimeUnit.NANOSECONDS.toMillis(jdbcNanos));
+            }
+        }
+    }
+}
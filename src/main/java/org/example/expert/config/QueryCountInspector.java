@@ -0,0 +1,16 @@
+package org.example.expert.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 모든 SQL 문장을 현재 스레드의 {@link QueryCounter}에 집계합니다.
+ * 배치로 묶인 문장은 한 번만 준비되므로 DB 왕복 횟수에 가깝게 집계됩니다. SQL은 변경하지 않습니다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.recordStatement();
+        return sql;
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.expert.config;
+
+/**
+ * 현재 스레드에서 실행된 SQL 문장 수와 JDBC 실행 시간을 집계합니다.
+ *
+ * 요청 처리 스레드에서 {@link #start()}로 집계를 시작하고 {@link #stop()}으로 종료합니다.
+ * 스레드별 집계 객체를 재사용하므로 문장을 실행할 때마다 객체를 할당하지 않으며,
+ * 집계 중이 아닌 스레드(스케줄러, 비동기 작업 등)의 문장은 집계하지 않습니다.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<QueryCounter> CURRENT = ThreadLocal.withInitial(QueryCounter::new);
+
+    private boolean active; // 집계 중 여부
+    private int statementCount; // 실행한 SQL 문장 수
+    private long jdbcNanos; // JDBC 실행 시간 합계 (ns)
+
+    private QueryCounter() {
+    }
+
+    /**
+     * 현재 스레드의 집계를 0부터 시작합니다.
+     */
+    public static void start() {
+        QueryCounter counter = CURRENT.get();
+        counter.active = true;
+        counter.statementCount = 0;
+        counter.jdbcNanos = 0L;
+    }
+
+    /**
+     * 현재 스레드의 집계를 종료합니다. 종료 후에도 마지막 집계 값은 조회할 수 있습니다.
+     */
+    public static void stop() {
+        CURRENT.get().active = false;
+    }
+
+    /**
+     * @return int 현재 스레드에서 집계된 SQL 문장 수
+     */
+    public static int getStatementCount() {
+        return CURRENT.get().statementCount;
+    }
+
+    /**
+     * @return long 현재 스레드에서 집계된 JDBC 실행 시간 합계 (ns)
+     */
+    public static long getJdbcNanos() {
+        return CURRENT.get().jdbcNanos;
+    }
+
+    static void recordStatement() {
+        QueryCounter counter = CURRENT.get();
+        if (counter.active) {
+            counter.statementCount++;
+        }
+    }
+
+    static void recordJdbcTime(long nanos) {
+        QueryCounter counter = CURRENT.get();
+        if (counter.active) {
+            counter.jdbcNanos += nanos;
+        }
+    }
+}
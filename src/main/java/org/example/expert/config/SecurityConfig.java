@@ -1,8 +1,11 @@
 package org.example.expert.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -44,6 +47,38 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();  // BCrypt 알고리즘을 사용하여 비밀번호를 인코딩하는 인코더 반환
     }
 
+    /**
+     * 관리 포트(management.server.port)로 들어온 요청의 보안을 구성하는 메서드입니다.
+     *
+     * Actuator는 애플리케이션 포트와 분리된 관리 포트에서만 제공되며, 수집기(Prometheus)가 사용하는
+     * /actuator/health, /actuator/prometheus만 인증 없이 허용하고 나머지는 모두 거부합니다.
+     * 관리 포트가 애플리케이션 포트와 같게 설정되면 이 체인은 적용되지 않으므로 Actuator도 일반 요청과 같이 인증이 필요합니다.
+     *
+     * @param http HttpSecurity 객체
+     * @param serverPort 애플리케이션 포트
+     * @param managementPort 관리 포트
+     * @return SecurityFilterChain 객체
+     * @throws Exception 보안 구성 중 발생할 수 있는 예외
+     */
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public SecurityFilterChain managementSecurityFilterChain(
+            HttpSecurity http,
+            @Value("${server.port:8080}") int serverPort,
+            @Value("${management.server.port:-1}") int managementPort
+    ) throws Exception {
+        boolean separatePort = managementPort > 0 && managementPort != serverPort;
+        return http
+                .securityMatcher(request -> separatePort && request.getLocalPort() == managementPort)  // 관리 포트 요청에만 적용
+                .csrf(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()  // 수집기 접근 허용
+                        .anyRequest().denyAll())  // 그 외 관리 엔드포인트는 거부
+                .build();
+    }
+
     /**
      * HTTP 보안을 구성하는 메서드입니다.
      *
@@ -2,6 +2,7 @@ package org.example.expert.domain.auth.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.aop.AccessLogged;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
@@ -15,8 +16,10 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+@AccessLogged
 @RestController
 @RequiredArgsConstructor
 public class AuthController {
@@ -62,4 +65,15 @@ public class AuthController {
                 .headers(headers)  // 설정된 헤더 추가
                 .body(response);  // 로그인 결과 반환
     }
+
+    /**
+     * 사용자 로그아웃 요청을 처리하는 메서드입니다.
+     * 요청에 사용된 토큰은 만료 전이라도 더 이상 인증에 사용할 수 없습니다.
+     *
+     * @param bearerToken Authorization 헤더 값
+     */
+    @PostMapping("/auth/logout")
+    public void logout(@RequestHeader("Authorization") String bearerToken) {
+        authService.logout(bearerToken);  // 로그아웃 서비스 호출
+    }
 }
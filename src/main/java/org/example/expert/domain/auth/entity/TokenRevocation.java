@@ -0,0 +1,79 @@
+package org.example.expert.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된 토큰 정보입니다.
+ * jti가 있으면 해당 토큰 하나(로그아웃)를, 없으면 토큰 버전이 tokenVersion보다 낮은 사용자의 모든 토큰(역할 변경 등)을 폐기합니다.
+ * 사용자 전체 폐기는 시각이 아닌 정수 버전으로 비교하므로, 폐기 직후 같은 초에 발급된 토큰이나 노드 간 시계 차이의 영향을 받지 않습니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "token_revocations", indexes = {
+        @Index(name = "idx_token_revocations_revoked_at", columnList = "revoked_at"),
+        @Index(name = "idx_token_revocations_expires_at", columnList = "expires_at")
+})
+public class TokenRevocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "token_revocation_seq")
+    @SequenceGenerator(name = "token_revocation_seq", sequenceName = "token_revocations_seq", allocationSize = 50) // pooled 방식으로 50개씩 ID 선할당
+    private Long id;
+
+    @Column(length = 36)
+    private String jti; // 폐기할 토큰 ID (사용자 전체 폐기이면 null)
+
+    @Column(nullable = false)
+    private Long userId; // 토큰 사용자 ID
+
+    private Long tokenVersion; // 사용자 전체 폐기 시 유효한 최소 토큰 버전 (토큰 하나 폐기이면 null)
+
+    @Column(nullable = false)
+    private LocalDateTime revokedAt; // 폐기 시각 (증분 동기화용)
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt; // 이 시각 이후에는 폐기 대상 토큰이 모두 만료되므로 삭제 가능
+
+    private TokenRevocation(String jti, Long userId, Long tokenVersion, LocalDateTime revokedAt, LocalDateTime expiresAt) {
+        this.jti = jti;
+        this.userId = userId;
+        this.tokenVersion = tokenVersion;
+        this.revokedAt = revokedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 토큰 하나를 폐기합니다.
+     *
+     * @param jti 토큰 ID
+     * @param userId 사용자 ID
+     * @param expiresAt 토큰 만료 시각
+     * @return TokenRevocation 폐기 정보
+     */
+    public static TokenRevocation ofToken(String jti, Long userId, LocalDateTime expiresAt) {
+        return new TokenRevocation(jti, userId, null, LocalDateTime.now(), expiresAt);
+    }
+
+    /**
+     * 토큰 버전이 주어진 버전보다 낮은 사용자의 모든 토큰을 폐기합니다.
+     *
+     * @param userId 사용자 ID
+     * @param tokenVersion 유효한 최소 토큰 버전 (증가된 사용자 토큰 버전)
+     * @param tokenLifetimeMillis 토큰 유효 시간 (ms)
+     * @return TokenRevocation 폐기 정보
+     */
+    public static TokenRevocation ofUser(Long userId, long tokenVersion, long tokenLifetimeMillis) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TokenRevocation(null, userId, tokenVersion, now, now.plus(Duration.ofMillis(tokenLifetimeMillis)));
+    }
+
+    public boolean isUserWide() {
+        return jti == null;
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.expert.domain.auth.repository;
+
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+
+    /**
+     * 주어진 시각 이후에 기록된 폐기 정보를 조회합니다. (증분 동기화용)
+     *
+     * @param revokedAt 기준 시각
+     * @return 폐기 정보 목록
+     */
+    List<TokenRevocation> findByRevokedAtAfter(LocalDateTime revokedAt);
+
+    /**
+     * 아직 만료되지 않은 폐기 정보를 모두 조회합니다. (최초 적재용)
+     *
+     * @param now 현재 시각
+     * @return 폐기 정보 목록
+     */
+    List<TokenRevocation> findByExpiresAtAfter(LocalDateTime now);
+
+    /**
+     * 만료되어 더 이상 필요 없는 폐기 정보를 삭제합니다.
+     *
+     * @param now 현재 시각
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM TokenRevocation r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,194 @@
+package org.example.expert.domain.auth.revocation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 토큰을 메모리에서 확인하는 레지스트리입니다.
+ *
+ * 폐기 정보는 token_revocations 테이블에 저장하고, 메모리의 블룸 필터와 정확한 집합에 반영합니다.
+ * 요청마다 블룸 필터만 확인하며, 블룸 필터에 걸린 경우에만 정확한 집합을 확인하므로 DB를 조회하지 않습니다.
+ * 다른 노드에서 기록한 폐기 정보는 주기적으로 증분 조회하여 반영합니다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+
+    private static final String USER_KEY_PREFIX = "user:";
+    private static final Duration POLL_OVERLAP = Duration.ofMinutes(1); // 늦게 커밋된 다른 노드의 기록을 놓치지 않도록 겹쳐 조회
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int expectedInsertions;
+
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>(); // jti -> 토큰 만료 시각 (ms)
+    private final Map<Long, UserRevocation> userRevocations = new ConcurrentHashMap<>(); // 사용자 ID -> 이 버전보다 낮은 토큰 폐기
+    private volatile BloomFilter bloomFilter;
+    private LocalDateTime lastPolledAt; // 마지막 증분 조회 시각 (null이면 전체 적재 필요)
+
+    public TokenRevocationRegistry(
+            TokenRevocationRepository tokenRevocationRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${jwt.revocation.expected-insertions:100000}") int expectedInsertions
+    ) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.bloomFilter = new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인합니다. (DB 조회 없음)
+     *
+     * @param token 검증된 토큰 정보
+     * @return boolean 폐기 여부
+     */
+    public boolean isRevoked(JwtUtil.VerifiedToken token) {
+        BloomFilter filter = bloomFilter;
+
+        if (token.jti() != null && filter.mightContain(token.jti()) && revokedTokens.containsKey(token.jti())) {
+            return true;
+        }
+
+        if (token.userId() != null && filter.mightContain(USER_KEY_PREFIX + token.userId())) {
+            UserRevocation revocation = userRevocations.get(token.userId());
+            return revocation != null && token.tokenVersion() < revocation.minTokenVersion();
+        }
+        return false;
+    }
+
+    /**
+     * 토큰 하나를 폐기합니다. (로그아웃)
+     * 진행 중인 트랜잭션이 있으면 커밋 후 메모리에 반영합니다.
+     *
+     * @param token 검증된 토큰 정보
+     */
+    public void revokeToken(JwtUtil.VerifiedToken token) {
+        LocalDateTime expiresAt = toLocalDateTime(token.expiresAtMillis());
+        TokenRevocation revocation = tokenRevocationRepository.save(TokenRevocation.ofToken(token.jti(), token.userId(), expiresAt));
+        registerAfterCommit(revocation);
+    }
+
+    /**
+     * 지금까지 발급된 사용자의 모든 토큰을 폐기합니다. (역할 변경 등)
+     * 사용자의 토큰 버전을 올리고 이전 버전의 토큰을 폐기하므로, 이후 로그인으로 발급되는 토큰은 바로 사용할 수 있습니다.
+     * 진행 중인 트랜잭션이 있으면 커밋 후 메모리에 반영합니다.
+     *
+     * @param user 영속 상태의 사용자 (토큰 버전이 증가됨)
+     */
+    public void revokeAllTokens(User user) {
+        user.increaseTokenVersion();
+        TokenRevocation revocation = tokenRevocationRepository.save(
+                TokenRevocation.ofUser(user.getId(), user.getTokenVersion(), JwtUtil.TOKEN_TIME));
+        registerAfterCommit(revocation);
+    }
+
+    /**
+     * 마지막 조회 이후 기록된 폐기 정보를 DB에서 읽어 메모리에 반영합니다.
+     * 처음 실행될 때는 만료되지 않은 폐기 정보를 모두 적재합니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval:PT5S}")
+    public void refresh() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<TokenRevocation> revocations = lastPolledAt == null
+                ? tokenRevocationRepository.findByExpiresAtAfter(startedAt)
+                : tokenRevocationRepository.findByRevokedAtAfter(lastPolledAt.minus(POLL_OVERLAP));
+
+        revocations.forEach(this::register);
+        lastPolledAt = startedAt;
+    }
+
+    /**
+     * 만료된 폐기 정보를 DB와 메모리에서 정리하고 블룸 필터를 새로 만듭니다.
+     * 블룸 필터는 삭제를 지원하지 않으므로 주기적으로 다시 만들어 거짓 양성 비율을 유지합니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval:PT1H}", initialDelayString = "${jwt.revocation.rebuild-interval:PT1H}")
+    public void rebuild() {
+        Integer deleted = transactionTemplate.execute(status -> tokenRevocationRepository.deleteExpired(LocalDateTime.now()));
+
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+            userRevocations.values().removeIf(revocation -> revocation.expiresAtMillis() <= now);
+
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, revokedTokens.size() + userRevocations.size()), FALSE_POSITIVE_RATE);
+            revokedTokens.keySet().forEach(rebuilt::put);
+            userRevocations.keySet().forEach(userId -> rebuilt.put(USER_KEY_PREFIX + userId));
+            bloomFilter = rebuilt;
+        }
+
+        log.info("토큰 폐기 정보 정리 - 삭제: {}, 토큰: {}, 사용자: {}", deleted, revokedTokens.size(), userRevocations.size());
+    }
+
+    private void registerAfterCommit(TokenRevocation revocation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            register(revocation);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                register(revocation);
+            }
+        });
+    }
+
+    /**
+     * 폐기 정보를 정확한 집합에 먼저 넣고 블룸 필터에 반영합니다.
+     * 블룸 필터 교체와 겹치지 않도록 동기화합니다. (확인은 잠금 없이 수행)
+     *
+     * @param revocation 폐기 정보
+     */
+    private synchronized void register(TokenRevocation revocation) {
+        if (revocation.isUserWide()) {
+            userRevocations.merge(
+                    revocation.getUserId(),
+                    new UserRevocation(revocation.getTokenVersion(), toEpochMillis(revocation.getExpiresAt())),
+                    UserRevocation::max
+            );
+            bloomFilter.put(USER_KEY_PREFIX + revocation.getUserId());
+        } else {
+            revokedTokens.put(revocation.getJti(), toEpochMillis(revocation.getExpiresAt()));
+            bloomFilter.put(revocation.getJti());
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * 사용자 전체 폐기 정보입니다.
+     *
+     * @param minTokenVersion 유효한 최소 토큰 버전
+     * @param expiresAtMillis 이 시각 이후에는 폐기 대상 토큰이 모두 만료됨 (epoch ms)
+     */
+    private record UserRevocation(long minTokenVersion, long expiresAtMillis) {
+
+        private static UserRevocation max(UserRevocation a, UserRevocation b) {
+            return new UserRevocation(Math.max(a.minTokenVersion, b.minTokenVersion), Math.max(a.expiresAtMillis, b.expiresAtMillis));
+        }
+    }
+}
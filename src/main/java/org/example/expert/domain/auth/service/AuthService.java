@@ -8,12 +8,15 @@ import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
 import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.revocation.TokenRevocationRegistry;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -24,6 +27,7 @@ public class AuthService {
     private final UserRepository userRepository;  // 사용자 데이터 접근을 위한 레포지토리
     private final PasswordEncoder passwordEncoder; // 비밀번호 암호화를 위한 인코더
     private final JwtUtil jwtUtil; // JWT 토큰 생성을 위한 유틸리티
+    private final TokenRevocationRegistry tokenRevocationRegistry; // 토큰 폐기 정보
 
     /**
      * 사용자의 회원가입 요청을 처리하는 메서드입니다.
@@ -56,7 +60,7 @@ public class AuthService {
         User savedUser = userRepository.save(newUser);
 
         // JWT 토큰 생성
-        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), savedUser.getNickname(), userRole);
+        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), savedUser.getNickname(), userRole, savedUser.getTokenVersion());
 
         // 응답 객체 반환
         return new SignupResponse(bearerToken);
@@ -65,20 +69,51 @@ public class AuthService {
     /**
      * 사용자의 로그인 요청을 처리하는 메서드입니다.
      *
+     * 비밀번호 검증(bcrypt) 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 실행합니다.
+     * 저장된 해시의 비용이 설정된 비용과 다르면 로그인에 성공한 비밀번호로 다시 해시하여 저장합니다.
+     *
      * @param signinRequest 로그인 요청 데이터
      * @return SigninResponse 생성된 JWT 토큰과 사용자 닉네임을 포함한 응답
+     * @throws ServiceUnavailableException 비밀번호 처리 요청이 많아 처리할 수 없는 경우
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SigninResponse signin(SigninRequest signinRequest) {
         // 사용자 인증 처리
         User user = validateUser(signinRequest);
 
+        // 비용이 바뀐 해시 갱신
+        if (passwordEncoder.needsUpgrade(user.getPassword())) {
+            userRepository.updatePassword(user.getId(), user.getPassword(), passwordEncoder.encode(signinRequest.getPassword()));
+        }
+
         // JWT 토큰 생성
-        String token = jwtUtil.createToken(user.getId(), user.getEmail(), user.getNickname(), user.getUserRole());
+        String token = jwtUtil.createToken(user.getId(), user.getEmail(), user.getNickname(), user.getUserRole(), user.getTokenVersion());
 
         // 응답 객체에 토큰과 닉네임 포함
         return new SigninResponse(token, user.getNickname());
     }
 
+    /**
+     * 사용자의 로그아웃 요청을 처리하는 메서드입니다.
+     * 요청에 사용된 토큰을 폐기하며, 토큰 ID(jti)가 없는 이전 토큰이면 사용자의 모든 토큰을 폐기합니다.
+     *
+     * @param bearerToken Authorization 헤더 값
+     * @throws AuthException 토큰이 유효하지 않은 경우
+     */
+    @Transactional
+    public void logout(String bearerToken) {
+        JwtUtil.VerifiedToken verified = jwtUtil.verify(jwtUtil.substringToken(bearerToken))
+                .orElseThrow(() -> new AuthException("유효하지 않은 토큰입니다."));
+
+        if (verified.jti() == null) {
+            User user = userRepository.findById(verified.userId())
+                    .orElseThrow(() -> new AuthException("유효하지 않은 토큰입니다."));
+            tokenRevocationRegistry.revokeAllTokens(user);
+            return;
+        }
+        tokenRevocationRegistry.revokeToken(verified);
+    }
+
     /**
      * 사용자의 유효성을 검증하는 메서드입니다.
      *
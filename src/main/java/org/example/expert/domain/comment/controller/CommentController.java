@@ -2,17 +2,21 @@ package org.example.expert.domain.comment.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.aop.AccessLogged;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
+@AccessLogged
 @RestController
 @RequiredArgsConstructor
 public class CommentController {
@@ -37,13 +41,36 @@ public class CommentController {
     }
 
     /**
-     * 주어진 todo 항목에 대한 모든 댓글을 조회하는 메서드입니다.
+     * 주어진 todo 항목의 댓글을 커서 기반으로 작성 순서대로 조회하는 메서드입니다.
+     * cursor 없이 요청하면 첫 페이지를 반환하며, 한 번에 최대 100개까지만 조회합니다.
      *
      * @param todoId 댓글을 조회할 todo 항목의 ID
-     * @return ResponseEntity<List<CommentResponse>> 조회된 댓글 목록이 포함된 응답
+     * @param cursor 직전 페이지 응답의 nextCursor (첫 페이지는 생략 또는 빈 값)
+     * @param size   페이지 크기 (기본값 20, 최대 100)
+     * @return ResponseEntity<CursorResponse<CommentResponse>> 조회된 댓글 목록과 다음 커서가 포함된 응답
      */
     @GetMapping("/todos/{todoId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
-        return ResponseEntity.ok(commentService.getComments(todoId)); // 댓글 목록을 응답으로 반환
+    public ResponseEntity<CursorResponse<CommentResponse>> getComments(
+            @PathVariable long todoId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(commentService.getComments(todoId, cursor, size));
+    }
+
+    /**
+     * 여러 todo 항목의 댓글을 한 번에 조회하는 메서드입니다.
+     * 목록 화면에서 todo 항목마다 댓글 API를 호출하지 않고 한 번의 요청으로 조회할 수 있습니다.
+     *
+     * @param ids   댓글을 조회할 todo 항목의 ID 목록 (예: ids=1,2,3)
+     * @param limit todo 항목별 최대 댓글 수 (기본값 10)
+     * @return ResponseEntity<Map<Long, List<CommentResponse>>> todo ID별 댓글 목록이 포함된 응답
+     */
+    @GetMapping("/todos/comments")
+    public ResponseEntity<Map<Long, List<CommentResponse>>> getCommentsByTodoIds(
+            @RequestParam List<Long> ids,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(commentService.getCommentsByTodoIds(ids, limit));
     }
 }
@@ -0,0 +1,17 @@
+package org.example.expert.domain.comment.dto;
+
+/**
+ * 여러 Todo의 댓글을 한 번에 조회할 때 사용하는 댓글/작성자 프로젝션입니다.
+ */
+public interface CommentWithUserView {
+
+    Long getId();
+
+    Long getTodoId();
+
+    String getContents();
+
+    Long getUserId();
+
+    String getEmail();
+}
@@ -1,20 +1,76 @@
 package org.example.expert.domain.comment.repository;
 
+import org.example.expert.domain.comment.dto.CommentWithUserView;
 import org.example.expert.domain.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     /**
-     * 주어진 todo 항목에 대한 댓글과 해당 댓글을 작성한 사용자를 함께 조회하는 메서드입니다.
+     * 주어진 todo 항목의 첫 페이지 댓글을 작성 순서대로 조회하는 메서드입니다.
      *
-     * @param todoId 댓글을 조회할 todo 항목의 ID
-     * @return List<Comment> 해당 todo 항목에 대한 댓글 목록 (사용자 정보 포함)
+     * @param todoId   댓글을 조회할 todo 항목의 ID
+     * @param pageable 조회할 건수 (정렬은 쿼리에서 지정)
+     * @return List<Comment> 작성 날짜, ID 오름차순으로 정렬된 댓글 목록 (사용자 정보 포함)
      */
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId " +
+            "ORDER BY c.createdAt, c.id")
+    List<Comment> findFirstPageByTodoIdWithUser(@Param("todoId") Long todoId, Pageable pageable);
+
+    /**
+     * 주어진 todo 항목의 댓글을 커서(작성 날짜, ID) 이후부터 작성 순서대로 조회하는 메서드입니다.
+     * (todo_id, created_at, id) 인덱스를 따라 탐색하므로 뒤 페이지도 첫 페이지와 같은 비용으로 조회됩니다.
+     *
+     * @param todoId    댓글을 조회할 todo 항목의 ID
+     * @param createdAt 직전 페이지 마지막 댓글의 작성 날짜
+     * @param id        직전 페이지 마지막 댓글의 ID
+     * @param pageable  조회할 건수 (정렬은 쿼리에서 지정)
+     * @return List<Comment> 작성 날짜, ID 오름차순으로 정렬된 댓글 목록 (사용자 정보 포함)
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt, c.id")
+    List<Comment> findPageAfterCursorByTodoIdWithUser(
+            @Param("todoId") Long todoId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    /**
+     * 여러 todo 항목의 댓글과 작성자를 한 번의 쿼리로 조회하는 메서드입니다.
+     * 윈도 함수(ROW_NUMBER)로 todo 항목마다 작성 순서대로 최대 limit개까지만 반환합니다.
+     *
+     * @param todoIds 댓글을 조회할 todo 항목의 ID 목록
+     * @param limit   todo 항목별 최대 댓글 수
+     * @return List<CommentWithUserView> todo ID, 작성 순서로 정렬된 댓글 목록 (사용자 정보 포함)
+     */
+    @Query(value = "SELECT r.id AS id, r.todo_id AS todoId, r.contents AS contents, r.user_id AS userId, r.email AS email " +
+            "FROM (SELECT c.id, c.todo_id, c.contents, u.id AS user_id, u.email, " +
+            "ROW_NUMBER() OVER (PARTITION BY c.todo_id ORDER BY c.created_at, c.id) AS rn " +
+            "FROM comments c JOIN users u ON u.id = c.user_id " +
+            "WHERE c.todo_id IN (:todoIds)) r " +
+            "WHERE r.rn <= :limit " +
+            "ORDER BY r.todo_id, r.rn",
+            nativeQuery = true)
+    List<CommentWithUserView> findByTodoIdInWithUser(@Param("todoIds") Collection<Long> todoIds, @Param("limit") int limit);
+
+    /**
+     * 주어진 todo 항목들의 댓글을 한 번의 DELETE 문으로 삭제하는 메서드입니다.
+     * 댓글 엔티티를 조회하지 않으며, 실행 후 영속성 컨텍스트를 비웁니다.
+     *
+     * @param todoIds 댓글을 삭제할 todo 항목의 ID 목록
+     * @return int 삭제된 댓글 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.todo.id IN :todoIds")
+    int deleteByTodoIdIn(@Param("todoIds") Collection<Long> todoIds);
 }
@@ -1,30 +1,47 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.CommentWithUserView;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.service.UserReferenceResolver;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
 
+    private static final int MAX_BULK_TODO_IDS = 100; // 한 번에 조회할 수 있는 최대 todo 항목 수
+    private static final int MAX_COMMENTS_PER_TODO = 50; // todo 항목별 최대 댓글 수
+    private static final int MAX_CURSOR_PAGE_SIZE = 100; // 커서 조회 시 허용하는 최대 페이지 크기
+
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserReferenceResolver userReferenceResolver;
 
     /**
      * 댓글을 저장하는 메서드입니다.
@@ -37,7 +54,7 @@ public class CommentService {
      */
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
-        User user = User.fromAuthUser(authUser);  // AuthUser를 User 객체로 변환
+        User user = userReferenceResolver.resolve(authUser);  // 작성자 참조 (SELECT 없음)
         Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
                 new InvalidRequestException("Todo not found"));  // Todo 항목 검색
 
@@ -49,35 +66,94 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);  // 댓글 저장
+        todoRepository.addCommentCount(todo.getId(), 1);  // Todo의 댓글 수 증가
+        eventPublisher.publishEvent(new TodoChangedEvent(todo.getId(), TodoChangedEvent.Type.UPDATED));
 
         // 저장된 댓글 정보를 포함한 응답 객체 생성
         return new CommentSaveResponse(
                 savedComment.getId(),  // 댓글 ID
                 savedComment.getContents(),  // 댓글 내용
-                new UserResponse(user.getId(), user.getEmail())  // 사용자 정보
+                new UserResponse(authUser.getId(), authUser.getEmail())  // 사용자 정보 (프록시 초기화를 피하기 위해 인증 정보 사용)
         );
     }
 
     /**
-     * 특정 Todo 항목에 대한 댓글 목록을 조회하는 메서드입니다.
+     * 특정 Todo 항목의 댓글을 커서 기반으로 작성 순서대로 조회하는 메서드입니다.
+     * 댓글 전체를 메모리에 올리지 않고 한 페이지씩만 조회합니다.
      *
      * @param todoId 댓글을 조회할 Todo 항목의 ID
-     * @return List<CommentResponse> 댓글 정보 리스트 (ID, 내용, 사용자 정보 포함)
+     * @param cursor 직전 페이지 응답의 nextCursor (첫 페이지는 null 또는 빈 문자열)
+     * @param size   페이지 크기 (최대 100)
+     * @return CursorResponse<CommentResponse> 조회된 댓글 목록과 다음 커서
      */
-    public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);  // 댓글 목록 조회
-
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();  // 댓글 작성자 정보 가져오기
-            // 댓글 정보와 사용자 정보를 포함한 응답 DTO 생성
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),  // 댓글 ID
-                    comment.getContents(),  // 댓글 내용
-                    new UserResponse(user.getId(), user.getEmail())  // 사용자 정보
-            );
-            dtoList.add(dto);  // DTO 리스트에 추가
+    public CursorResponse<CommentResponse> getComments(long todoId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        Cursor decoded = Cursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Comment> comments = decoded == null
+                ? commentRepository.findFirstPageByTodoIdWithUser(todoId, limit)
+                : commentRepository.findPageAfterCursorByTodoIdWithUser(todoId, decoded.getTimestamp(), decoded.getId(), limit);
+
+        CursorResponse<Comment> page = CursorResponse.of(
+                comments, pageSize, comment -> new Cursor(comment.getCreatedAt(), comment.getId()));
+        return new CursorResponse<>(
+                page.getContent().stream().map(this::toCommentResponse).toList(),
+                page.getNextCursor(),
+                page.isHasNext()
+        );
+    }
+
+    /**
+     * 여러 todo 항목의 댓글을 한 번에 조회하는 메서드입니다.
+     * todo 항목마다 작성 순서대로 최대 limit개의 댓글을 반환하며, 댓글이 없는 항목은 빈 목록으로 포함됩니다.
+     *
+     * @param todoIds 댓글을 조회할 todo 항목의 ID 목록 (최대 100개, 중복은 제거됨)
+     * @param limit   todo 항목별 최대 댓글 수 (1~50)
+     * @return Map<Long, List<CommentResponse>> 요청 순서의 todo ID별 댓글 목록
+     * @throws InvalidRequestException ID 목록이 비어 있거나 개수/limit 범위를 벗어난 경우
+     */
+    public Map<Long, List<CommentResponse>> getCommentsByTodoIds(List<Long> todoIds, int limit) {
+        if (todoIds == null || todoIds.isEmpty()) {
+            throw new InvalidRequestException("조회할 todo ID를 입력해주세요.");
+        }
+        Set<Long> ids = new LinkedHashSet<>(todoIds);  // 중복 제거 (요청 순서 유지)
+        if (ids.size() > MAX_BULK_TODO_IDS) {
+            throw new InvalidRequestException("한 번에 조회할 수 있는 todo는 최대 " + MAX_BULK_TODO_IDS + "개입니다.");
+        }
+        if (limit < 1 || limit > MAX_COMMENTS_PER_TODO) {
+            throw new InvalidRequestException("todo별 댓글 수는 1~" + MAX_COMMENTS_PER_TODO + " 사이여야 합니다.");
         }
-        return dtoList;  // 댓글 목록 반환
+
+        Map<Long, List<CommentResponse>> result = new LinkedHashMap<>();
+        for (Long id : ids) {
+            result.put(id, new ArrayList<>());
+        }
+
+        // 한 번의 쿼리로 조회한 댓글을 todo ID별로 묶음
+        for (CommentWithUserView comment : commentRepository.findByTodoIdInWithUser(ids, limit)) {
+            result.get(comment.getTodoId()).add(new CommentResponse(
+                    comment.getId(),
+                    comment.getContents(),
+                    new UserResponse(comment.getUserId(), comment.getEmail())
+            ));
+        }
+        return result;
+    }
+
+    /**
+     * 댓글 엔티티를 응답 DTO로 변환합니다.
+     *
+     * @param comment 변환할 댓글 엔티티 (사용자 정보 포함)
+     * @return CommentResponse 변환된 응답 DTO
+     */
+    private CommentResponse toCommentResponse(Comment comment) {
+        User user = comment.getUser();
+        return new CommentResponse(
+                comment.getId(),
+                comment.getContents(),
+                new UserResponse(user.getId(), user.getEmail())
+        );
     }
 }
@@ -0,0 +1,124 @@
+package org.example.expert.domain.common.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 여러 생산자와 단일 소비자를 위한 잠금 없는 고정 크기 링 버퍼입니다.
+ *
+ * 슬롯마다 이벤트 객체를 미리 만들어 두고 재사용하므로 발행 시 객체를 할당하지 않습니다.
+ * 생산자는 tryClaim으로 슬롯을 얻어 이벤트 필드를 채운 뒤 publish하며, 버퍼가 가득 차면 기다리지 않고 -1을 받습니다.
+ * 소비자는 한 스레드에서만 drain을 호출해야 하며, 처리기에서 이벤트 객체를 보관하면 안 됩니다. (다음 발행에 재사용됨)
+ *
+ * @param <E> 이벤트 타입 (필드를 변경할 수 있어야 함)
+ */
+public class RingBuffer<E> {
+
+    private final Object[] events;
+    private final int mask;
+    private final AtomicLongArray sequences; // 슬롯별 상태 (seq: 발행 가능, seq+1: 발행 완료)
+    private final AtomicLong tail = new AtomicLong(); // 다음에 할당할 발행 순번
+    private volatile long head; // 다음에 소비할 순번 (소비자만 변경)
+
+    /**
+     * @param capacity 슬롯 수 (2의 거듭제곱으로 올림)
+     * @param eventFactory 슬롯에 미리 만들어 둘 이벤트 생성기
+     */
+    public RingBuffer(int capacity, Supplier<E> eventFactory) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity는 1 이상 2^30 이하여야 합니다: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.events = new Object[size];
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            events[i] = eventFactory.get();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 발행할 슬롯을 할당합니다. 버퍼가 가득 차면 기다리지 않고 -1을 반환합니다.
+     * 할당에 성공하면 반드시 publish를 호출해야 합니다.
+     *
+     * @return long 할당된 순번 (실패 시 -1)
+     */
+    public long tryClaim() {
+        while (true) {
+            long sequence = tail.get();
+            long diff = sequences.get((int) (sequence & mask)) - sequence;
+            if (diff == 0) {
+                if (tail.compareAndSet(sequence, sequence + 1)) {
+                    return sequence;
+                }
+            } else if (diff < 0) {
+                return -1L;  // 소비되지 않은 슬롯이 남아 있음 (가득 참)
+            }
+            // diff > 0 이면 다른 생산자가 먼저 할당한 것이므로 다시 시도
+        }
+    }
+
+    /**
+     * 할당된 슬롯의 이벤트 객체를 반환합니다.
+     *
+     * @param sequence tryClaim으로 할당받은 순번
+     * @return E 채워 넣을 이벤트 객체
+     */
+    @SuppressWarnings("unchecked")
+    public E get(long sequence) {
+        return (E) events[(int) (sequence & mask)];
+    }
+
+    /**
+     * 이벤트를 다 채운 슬롯을 소비자에게 공개합니다.
+     *
+     * @param sequence tryClaim으로 할당받은 순번
+     */
+    public void publish(long sequence) {
+        sequences.set((int) (sequence & mask), sequence + 1);
+    }
+
+    /**
+     * 발행 순서대로 최대 maxEvents개의 이벤트를 처리합니다. 단일 소비자 스레드에서만 호출해야 합니다.
+     * 아직 발행이 끝나지 않은 슬롯을 만나면 그 앞에서 멈춥니다.
+     *
+     * @param handler 이벤트 처리기 (이벤트 객체를 보관하면 안 됨)
+     * @param maxEvents 최대 처리 건수
+     * @return int 처리한 건수
+     */
+    public int drain(Consumer<? super E> handler, int maxEvents) {
+        long sequence = head;
+        int count = 0;
+        while (count < maxEvents) {
+            int index = (int) (sequence & mask);
+            if (sequences.get(index) != sequence + 1) {
+                break;
+            }
+            try {
+                handler.accept(get(sequence));
+            } finally {
+                sequences.set(index, sequence + events.length);  // 다음 바퀴의 생산자에게 슬롯 반환
+                sequence++;
+                head = sequence;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 할당되었지만 아직 소비되지 않은 이벤트 수를 반환합니다.
+     *
+     * @return int 대기 건수
+     */
+    public int size() {
+        return (int) Math.max(0L, tail.get() - head);
+    }
+
+    public int capacity() {
+        return events.length;
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+@Getter
+public class Cursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime timestamp;  // 정렬 기준 시각
+    private final Long id;  // 같은 시각 내 정렬 기준 ID
+
+    public Cursor(LocalDateTime timestamp, Long id) {
+        this.timestamp = timestamp;
+        this.id = id;
+    }
+
+    /**
+     * 커서를 클라이언트에 전달할 불투명한 문자열로 인코딩합니다.
+     *
+     * @return URL-safe Base64로 인코딩된 커서 문자열
+     */
+    public String encode() {
+        String raw = timestamp + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열을 디코딩합니다.
+     *
+     * @param value 인코딩된 커서 문자열 (비어 있으면 첫 페이지)
+     * @return 디코딩된 커서, 첫 페이지인 경우 null
+     * @throws InvalidRequestException 커서 형식이 올바르지 않은 경우
+     */
+    public static Cursor decode(String value) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            return new Cursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+public class CursorResponse<T> {
+
+    private final List<T> content;  // 현재 페이지 항목
+    private final String nextCursor;  // 다음 페이지 조회용 커서 (마지막 페이지이면 null)
+    private final boolean hasNext;  // 다음 페이지 존재 여부
+
+    public CursorResponse(List<T> content, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * size + 1 건으로 조회한 결과로부터 커서 응답을 생성합니다.
+     * 초과 조회된 한 건은 다음 페이지 존재 여부 판단에만 사용하고 응답에서는 제외합니다.
+     *
+     * @param rows            size + 1 건까지 조회된 결과
+     * @param size            페이지 크기
+     * @param cursorExtractor 항목으로부터 커서를 만드는 함수
+     * @return CursorResponse<T> 커서 응답
+     */
+    public static <T> CursorResponse<T> of(List<T> rows, int size, Function<T, Cursor> cursorExtractor) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorExtractor.apply(content.get(content.size() - 1)).encode() : null;
+        return new CursorResponse<>(content, nextCursor, hasNext);
+    }
+}
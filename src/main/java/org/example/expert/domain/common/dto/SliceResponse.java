@@ -0,0 +1,35 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class SliceResponse<T> {
+
+    private final List<T> content;  // 현재 페이지 항목
+    private final int page;  // 페이지 번호 (1부터 시작)
+    private final int size;  // 페이지 크기
+    private final boolean hasNext;  // 다음 페이지 존재 여부
+
+    public SliceResponse(List<T> content, int page, int size, boolean hasNext) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * size + 1 건으로 조회한 결과로부터 슬라이스 응답을 생성합니다.
+     * 전체 건수를 세지 않고 초과 조회된 한 건으로 다음 페이지 존재 여부만 판단합니다.
+     *
+     * @param rows size + 1 건까지 조회된 결과
+     * @param page 페이지 번호 (1부터 시작)
+     * @param size 페이지 크기
+     * @return SliceResponse<T> 슬라이스 응답
+     */
+    public static <T> SliceResponse<T> of(List<T> rows, int page, int size) {
+        boolean hasNext = rows.size() > size;
+        return new SliceResponse<>(hasNext ? rows.subList(0, size) : rows, page, size, hasNext);
+    }
+}
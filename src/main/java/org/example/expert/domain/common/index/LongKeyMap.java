@@ -0,0 +1,123 @@
+package org.example.expert.domain.common.index;
+
+import java.util.function.Supplier;
+
+/**
+ * long 키를 박싱하지 않고 저장하는 개방 주소법(선형 탐사) 해시 맵입니다.
+ * trigram 키처럼 항목 수가 많은 원시 키를 {@code Map<Long, V>} 대신 저장하기 위해 사용합니다.
+ * 값이 null인 슬롯을 빈 슬롯으로 사용하므로 null 값은 저장할 수 없습니다. 동기화는 사용하는 쪽에서 담당합니다.
+ *
+ * @param <V> 값 타입
+ */
+class LongKeyMap<V> {
+
+    private static final int INITIAL_CAPACITY = 16; // 2의 거듭제곱
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * 키에 해당하는 값을 조회합니다.
+     *
+     * @param key 키
+     * @return V 값 (없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        int mask = keys.length - 1;
+        for (int slot = slot(key, mask); values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return (V) values[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 키에 해당하는 값을 조회하고, 없으면 새로 만들어 저장합니다.
+     *
+     * @param key     키
+     * @param factory 값이 없을 때 새 값을 만드는 함수
+     * @return V 기존 값 또는 새로 저장한 값
+     */
+    V computeIfAbsent(long key, Supplier<V> factory) {
+        V existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length * 2);  // 사용률 50% 이하 유지
+        }
+
+        V value = factory.get();
+        insert(key, value);
+        size++;
+        return value;
+    }
+
+    /**
+     * 키를 제거합니다. 뒤따르는 항목을 당겨 탐사 경로가 끊기지 않도록 합니다.
+     *
+     * @param key 제거할 키
+     */
+    void remove(long key) {
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (values[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (values[slot] == null) {
+            return;
+        }
+
+        values[slot] = null;
+        size--;
+
+        // 비운 슬롯 이후의 항목 중 원래 위치가 비운 슬롯 이전인 항목을 당겨 채움
+        int hole = slot;
+        for (int next = (hole + 1) & mask; values[next] != null; next = (next + 1) & mask) {
+            int home = slot(keys[next], mask);
+            boolean homeBetween = hole <= next
+                    ? hole < home && home <= next
+                    : hole < home || home <= next;
+            if (!homeBetween) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                values[next] = null;
+                hole = next;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void insert(long key, Object value) {
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (values[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[capacity];
+        values = new Object[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                insert(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static int slot(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;  // 피보나치 해싱으로 상위 비트까지 섞음
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.expert.domain.common.index;
+
+import java.util.Arrays;
+
+/**
+ * 오름차순으로 정렬된 long ID 목록입니다.
+ * 박싱 없이 원시 배열에 저장하며, 대부분의 ID가 증가 순서로 추가되므로 추가는 보통 배열 끝에 이루어집니다.
+ * 동기화는 사용하는 쪽에서 담당합니다.
+ */
+public class LongPostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] values = new long[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * ID를 정렬 순서를 유지하며 추가합니다. 이미 존재하는 ID는 무시합니다.
+     *
+     * @param value 추가할 ID
+     */
+    public void add(long value) {
+        if (size > 0 && values[size - 1] < value) {
+            ensureCapacity();
+            values[size++] = value;  // 증가 순서로 추가되는 일반적인 경우
+            return;
+        }
+
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index >= 0) {
+            return;
+        }
+
+        int insertAt = -index - 1;
+        ensureCapacity();
+        System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+        values[insertAt] = value;
+        size++;
+    }
+
+    /**
+     * ID를 제거합니다.
+     *
+     * @param value 제거할 ID
+     */
+    public void remove(long value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 정렬된 ID 배열의 복사본을 반환합니다.
+     *
+     * @return long[] 정렬된 ID 배열
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * 주어진 정렬된 배열과의 교집합을 반환합니다.
+     *
+     * @param sorted 오름차순으로 정렬된 ID 배열
+     * @return long[] 교집합 (오름차순)
+     */
+    public long[] intersect(long[] sorted) {
+        long[] result = new long[Math.min(size, sorted.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size && j < sorted.length) {
+            if (values[i] == sorted[j]) {
+                result[count++] = values[i];
+                i++;
+                j++;
+            } else if (values[i] < sorted[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private void ensureCapacity() {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.expert.domain.common.index;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 문자열의 3-gram(trigram)을 ID 목록에 매핑하는 메모리 역색인입니다.
+ * <p>
+ * 대소문자를 구분하지 않는 부분 문자열 검색에서 후보 ID를 빠르게 좁히는 용도이며,
+ * trigram이 모두 포함되어 있어도 실제 부분 문자열이 아닐 수 있으므로 결과는 후보 집합(상위 집합)입니다.
+ * trigram 키는 {@link LongKeyMap}에, 각 trigram의 ID 목록은 {@link LongPostingList}에 박싱 없이 저장됩니다.
+ */
+public class TrigramIndex {
+
+    public static final int GRAM_SIZE = 3;
+
+    private final LongKeyMap<LongPostingList> postings = new LongKeyMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 문자열의 trigram을 색인에 추가합니다.
+     *
+     * @param id   문자열을 가진 항목의 ID
+     * @param text 색인할 문자열 (null 또는 3자 미만이면 무시)
+     */
+    public void add(long id, String text) {
+        long[] grams = grams(text);
+        if (grams.length == 0) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (long gram : grams) {
+                postings.computeIfAbsent(gram, LongPostingList::new).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문자열의 trigram을 색인에서 제거합니다.
+     *
+     * @param id   제거할 항목의 ID
+     * @param text 색인했던 문자열
+     */
+    public void remove(long id, String text) {
+        long[] grams = grams(text);
+        if (grams.length == 0) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (long gram : grams) {
+                LongPostingList list = postings.get(gram);
+                if (list != null) {
+                    list.remove(id);
+                    if (list.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 trigram을 포함하는 후보 ID를 조회합니다.
+     *
+     * @param query 검색어
+     * @return long[] 오름차순 후보 ID 배열, 검색어가 3자 미만이라 색인으로 판단할 수 없으면 null
+     */
+    public long[] search(String query) {
+        long[] grams = grams(query);
+        if (grams.length == 0) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            LongPostingList[] lists = new LongPostingList[grams.length];
+            for (int i = 0; i < grams.length; i++) {
+                lists[i] = postings.get(grams[i]);
+                if (lists[i] == null) {
+                    return new long[0];  // 한 trigram이라도 없으면 일치 항목 없음
+                }
+            }
+
+            // 가장 짧은 목록부터 교집합을 구해 중간 결과를 최소화
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size(), b.size()));
+            long[] result = lists[0].toArray();
+            for (int i = 1; i < lists.length && result.length > 0; i++) {
+                result = lists[i].intersect(result);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 문자열을 소문자로 정규화한 뒤 중복 없는 trigram 키 배열로 변환합니다.
+     * 각 trigram은 세 문자(char)를 16비트씩 이어 붙인 long 값으로 표현됩니다.
+     *
+     * @param text 변환할 문자열
+     * @return long[] trigram 키 배열 (3자 미만이면 빈 배열)
+     */
+    static long[] grams(String text) {
+        if (text == null || text.length() < GRAM_SIZE) {
+            return new long[0];
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        long[] grams = new long[normalized.length() - GRAM_SIZE + 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) normalized.charAt(i) << 32)
+                    | ((long) normalized.charAt(i + 1) << 16)
+                    | normalized.charAt(i + 2);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+}
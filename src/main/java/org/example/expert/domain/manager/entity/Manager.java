@@ -12,7 +12,9 @@ import org.example.expert.domain.user.entity.User;
 @Table(name = "managers")
 public class Manager {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "manager_seq")
+    @SequenceGenerator(name = "manager_seq", sequenceName = "managers_seq", allocationSize = 50) // pooled 방식으로 50개씩 ID 선할당
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
@@ -0,0 +1,19 @@
+package org.example.expert.domain.manager.log;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감사 로그 링 버퍼의 슬롯에 미리 만들어 두고 재사용하는 이벤트 객체입니다.
+ */
+class AuditLogEvent {
+
+    String actionType;
+    String actionDetail;
+    LocalDateTime timestamp;
+
+    void clear() {
+        actionType = null;
+        actionDetail = null;
+        timestamp = null;
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.expert.domain.manager.log;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.concurrent.RingBuffer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 담당자/관리자 작업의 감사 로그를 비동기로 모아 저장하는 작성기입니다.
+ *
+ * 요청 스레드는 잠금 없는 링 버퍼에 이벤트를 넣기만 하므로 업무 트랜잭션이 로그 INSERT를 기다리지 않습니다.
+ * 단일 작성 스레드가 일정 주기(audit.log.flush-interval) 또는 대기 건수가 배치 크기에 도달할 때
+ * 버퍼를 비워 JDBC 배치 INSERT로 저장합니다. 버퍼가 가득 차면 이벤트를 버리고 건수를 기록합니다.
+ * 종료 시에는 남은 이벤트를 모두 저장하며, 종료 이후에 기록되는 이벤트는 버리고 건수를 기록합니다.
+ * 어떤 경우에도 기록 호출은 예외를 던지지 않으므로 감사 로그 때문에 업무 트랜잭션이 롤백되지 않습니다.
+ */
+@Slf4j
+@Component
+public class AuditLogWriter {
+
+    private final LogRepository logRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RingBuffer<AuditLogEvent> buffer;
+    private final int batchSize;
+    private final AtomicBoolean flushRequested = new AtomicBoolean(); // 배치 크기 도달로 인한 저장 요청 중복 방지
+    private final AtomicLong droppedCount = new AtomicLong(); // 버퍼가 가득 차 버린 누적 건수
+    private final AtomicLong failedCount = new AtomicLong(); // 저장에 실패한 누적 건수
+    private final AtomicLong writtenCount = new AtomicLong(); // 저장한 누적 건수
+    private volatile boolean closed; // 종료 시 마지막 저장까지 끝났는지 여부
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "audit-log-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public AuditLogWriter(
+            LogRepository logRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${audit.log.buffer-size:8192}") int bufferSize,
+            @Value("${audit.log.batch-size:100}") int batchSize,
+            @Value("${audit.log.flush-interval:PT1S}") Duration flushInterval
+    ) {
+        this.logRepository = logRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.buffer = new RingBuffer<>(bufferSize, AuditLogEvent::new);
+        this.batchSize = batchSize;
+        long intervalMillis = flushInterval.toMillis();
+        writer.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 감사 로그를 기록합니다. 요청 스레드를 막지 않으며, 버퍼가 가득 찼거나 이미 종료되었으면 버립니다.
+     *
+     * @param actionType 로그 유형 (예: "MANAGER_REGISTRATION")
+     * @param actionDetail 로그 상세 내용
+     */
+    public void record(String actionType, String actionDetail) {
+        long sequence = closed ? -1L : buffer.tryClaim();
+        if (sequence < 0) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+
+        AuditLogEvent event = buffer.get(sequence);
+        event.actionType = actionType;
+        event.actionDetail = actionDetail;
+        event.timestamp = LocalDateTime.now();
+        buffer.publish(sequence);
+
+        // 배치 크기만큼 쌓이면 주기를 기다리지 않고 저장
+        if (buffer.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            try {
+                writer.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                flushRequested.set(false);  // 종료 중이면 종료 시 마지막 저장에서 함께 저장됨
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 작성 스레드를 멈추고 남은 로그를 모두 저장합니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+        if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+            closed = true;
+            log.warn("감사 로그 작성 스레드가 종료되지 않았습니다.");
+            return;  // 작성 스레드가 아직 소비 중이면 단일 소비자 조건을 지키기 위해 직접 비우지 않음
+        }
+        flush();  // 작성 스레드가 종료되었으므로 현재 스레드가 유일한 소비자
+        closed = true;
+        flush();  // 마지막 저장 중에 기록된 이벤트까지 저장
+    }
+
+    /**
+     * 버퍼에 대기 중인 감사 로그 수를 반환합니다.
+     *
+     * @return int 대기 건수
+     */
+    public int getBufferDepth() {
+        return buffer.size();
+    }
+
+    /**
+     * 버퍼가 가득 차 버린 누적 건수를 반환합니다.
+     *
+     * @return long 누적 건수
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * 저장에 실패한 누적 건수를 반환합니다.
+     *
+     * @return long 누적 건수
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * 저장한 누적 건수를 반환합니다.
+     *
+     * @return long 누적 건수
+     */
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    /**
+     * 버퍼가 빌 때까지 배치 크기씩 꺼내 저장합니다. 작성 스레드(종료 후에는 종료 스레드)에서만 호출됩니다.
+     */
+    private void flush() {
+        flushRequested.set(false);
+        List<Log> batch = new ArrayList<>(batchSize);
+        while (buffer.drain(event -> {
+            batch.add(new Log(event.actionType, event.actionDetail, event.timestamp));
+            event.clear();
+        }, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<Log> batch) {
+        try {
+            // SEQUENCE ID와 hibernate.jdbc.batch_size 설정으로 배치 INSERT 실행
+            transactionTemplate.executeWithoutResult(status -> logRepository.saveAll(batch));
+            writtenCount.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            failedCount.addAndGet(batch.size());
+            log.warn("감사 로그 저장 실패 - 건수: {}", batch.size(), e);
+        }
+    }
+}
@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 public class Log {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "log_seq")
+    @SequenceGenerator(name = "log_seq", sequenceName = "log_seq", allocationSize = 50) // pooled 방식으로 50개씩 ID 선할당
     private Long id;
 
     @Column(nullable = false)
@@ -30,4 +31,10 @@ public class Log {
         this.actionDetail = actionDetail;
         this.timestamp = LocalDateTime.now();
     }
+
+    public Log(String actionType, String actionDetail, LocalDateTime timestamp) {
+        this.actionType = actionType;
+        this.actionDetail = actionDetail;
+        this.timestamp = timestamp;  // 요청 시점 (비동기 저장 시 저장 시점과 다름)
+    }
 }
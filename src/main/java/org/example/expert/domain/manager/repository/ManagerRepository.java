@@ -2,9 +2,11 @@ package org.example.expert.domain.manager.repository;
 
 import org.example.expert.domain.manager.entity.Manager;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
@@ -17,4 +19,15 @@ public interface ManagerRepository extends JpaRepository<Manager, Long> {
      */
     @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
     List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    /**
+     * 주어진 todo 항목들의 매니저를 한 번의 DELETE 문으로 삭제하는 메서드입니다.
+     * 매니저 엔티티를 조회하지 않으며, 실행 후 영속성 컨텍스트를 비웁니다.
+     *
+     * @param todoIds 매니저를 삭제할 todo 항목의 ID 목록
+     * @return int 삭제된 매니저 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Manager m WHERE m.todo.id IN :todoIds")
+    int deleteByTodoIdIn(@Param("todoIds") Collection<Long> todoIds);
 }
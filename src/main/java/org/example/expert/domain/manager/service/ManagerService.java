@@ -9,14 +9,14 @@ import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
-import org.example.expert.domain.manager.log.Log;
-import org.example.expert.domain.manager.log.LogRepository;
+import org.example.expert.domain.manager.log.AuditLogWriter;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
@@ -30,7 +30,8 @@ public class ManagerService {
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
-    private final LogRepository logRepository; // LogRepository 주입 추가
+    private final AuditLogWriter auditLogWriter; // 감사 로그 비동기 작성기
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 매니저를 저장하는 메서드입니다.
@@ -51,9 +52,11 @@ public class ManagerService {
 
         Manager newManager = new Manager(managerUser, todo);
         Manager savedManager = managerRepository.save(newManager);
+        todoRepository.addManagerCount(todo.getId(), 1);  // Todo의 담당자 수 증가
+        eventPublisher.publishEvent(new TodoChangedEvent(todo.getId(), TodoChangedEvent.Type.UPDATED));
 
-        // 로그 기록
-        saveLog("MANAGER_REGISTRATION", "매니저 등록 요청: " + savedManager.getId());
+        // 로그 기록 (버퍼에 넣기만 하고 저장은 백그라운드에서 배치로 처리)
+        auditLogWriter.record("MANAGER_REGISTRATION", "매니저 등록 요청: " + savedManager.getId());
 
         return new ManagerSaveResponse(
                 savedManager.getId(),
@@ -61,30 +64,21 @@ public class ManagerService {
         );
     }
 
-    /**
-     * 로그 기록을 저장하는 메서드입니다.
-     *
-     * @param actionType 로그 유형
-     * @param actionDetail 로그 상세 내용
-     */
-    @Transactional(propagation = Propagation.REQUIRES_NEW) // 로그 기록을 위해 새로운 트랜잭션으로 설정
-    public void saveLog(String actionType, String actionDetail) {
-        Log log = new Log(actionType, actionDetail);
-        logRepository.save(log);
-    }
-
     /**
      * 특정 todo에 대한 매니저 목록을 조회하는 메서드입니다.
      *
+     * 매니저와 사용자를 한 번의 쿼리로 조회합니다.
+     * Todo 작성자는 항상 매니저로 등록되므로, 결과가 비어 있을 때만 Todo 존재 여부를 추가로 확인합니다.
+     *
      * @param todoId 조회할 todo의 ID
      * @return List<ManagerResponse> 해당 todo에 연관된 매니저 목록
      * @throws InvalidRequestException 유효하지 않은 요청이 있는 경우
      */
     public List<ManagerResponse> getManagers(long todoId) {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
-
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
+        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todoId);
+        if (managerList.isEmpty() && !todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
 
         List<ManagerResponse> dtoList = new ArrayList<>();
         for (Manager manager : managerList) {
@@ -127,5 +121,7 @@ public class ManagerService {
         }
 
         managerRepository.delete(manager);
+        todoRepository.addManagerCount(todo.getId(), -1);  // Todo의 담당자 수 감소
+        eventPublisher.publishEvent(new TodoChangedEvent(todo.getId(), TodoChangedEvent.Type.UPDATED));
     }
 }
@@ -0,0 +1,97 @@
+package org.example.expert.domain.todo.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록/검색 조건별 전체 건수를 짧은 시간 동안 보관하는 캐시입니다.
+ * "약 N건" 정도만 필요한 화면에서 매 페이지마다 COUNT 쿼리를 실행하지 않도록 사용하며,
+ * 최대 건수를 넘으면 사용 빈도(W-TinyLFU) 기준으로 제거하고, Todo가 생성/삭제되면 전체를 무효화합니다.
+ * 계산 중에 무효화가 일어나면 계산한 값은 캐시에 저장하지 않으므로, 무효화 이전 건수가 만료 시간 동안 남지 않습니다.
+ */
+@Component
+public class TodoCountCache {
+
+    private final Cache<String, Long> cache;
+    private final AtomicLong generation = new AtomicLong(); // 전체 무효화 횟수
+
+    public TodoCountCache(
+            @Value("${todo.count-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${todo.count-cache.max-entries:1000}") long maxEntries
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 조건에 해당하는 캐시된 건수를 반환하고, 없거나 만료되었으면 계산하여 저장합니다.
+     * 같은 조건에 대한 동시 미스는 한 번만 계산합니다.
+     * 계산을 시작한 뒤 캐시가 무효화되었으면 계산한 값은 반환만 하고 저장하지 않습니다.
+     *
+     * @param key     정규화된 조건 키 ({@link #key(String, Object...)}로 생성)
+     * @param counter 실제 건수를 계산하는 함수
+     * @return long 캐시된(근사) 전체 건수
+     */
+    public long get(String key, LongSupplier counter) {
+        long current = generation.get();  // COUNT 쿼리 전에 읽어야 계산 중의 무효화를 감지할 수 있음
+
+        long[] counted = new long[1];
+        Long cached = cache.get(key, k -> {
+            counted[0] = counter.getAsLong();
+            return generation.get() == current ? counted[0] : null;  // null을 반환하면 저장되지 않음
+        });
+        return cached != null ? cached : counted[0];
+    }
+
+    /**
+     * 캐시를 모두 비웁니다.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();  // 진행 중인 계산이 값을 저장하지 못하도록 먼저 세대를 올림
+        cache.invalidateAll();
+    }
+
+    /**
+     * Todo가 생성/삭제되어 커밋되면 건수 캐시를 무효화합니다.
+     *
+     * @param event Todo 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        if (event.getType() != TodoChangedEvent.Type.UPDATED) {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * 조회 유형과 조건 값으로 정규화된 캐시 키를 생성합니다.
+     * 문자열은 앞뒤 공백을 제거하며, null은 빈 값으로 취급합니다.
+     * 대소문자를 구분하지 않는 조건은 호출하는 쪽에서 소문자로 변환하여 전달합니다.
+     *
+     * @param type  조회 유형 (예: "list", "search")
+     * @param parts 조건 값
+     * @return String 캐시 키
+     */
+    public static String key(String type, Object... parts) {
+        StringBuilder key = new StringBuilder(type);
+        for (Object part : parts) {
+            key.append('|');
+            if (part instanceof String text) {
+                key.append(text.trim());
+            } else if (part != null) {
+                key.append(part);
+            }
+        }
+        return key.toString();
+    }
+}
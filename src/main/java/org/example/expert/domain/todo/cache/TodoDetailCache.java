@@ -0,0 +1,133 @@
+package org.example.expert.domain.todo.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.user.event.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Todo 단건 조회 응답을 ID별로 보관하는 캐시입니다.
+ * 최대 건수를 넘으면 사용 빈도(W-TinyLFU) 기준으로 제거하며, 적중/미스 통계를 기록합니다.
+ * Todo, 댓글, 담당자, 작성자가 변경되어 커밋되면 해당 항목을 무효화합니다.
+ * 조회 중에 무효화가 일어나면 조회한 값은 캐시에 저장하지 않으므로, 커밋 전 값이 무효화 이후에 다시 저장되지 않습니다.
+ * <p>
+ * 캐시와 무효화는 노드마다 따로 동작합니다. 다른 노드에서 커밋된 변경은 이 노드의 캐시를 무효화하지 않으므로,
+ * 여러 노드로 운영하면 다른 노드의 변경이 최대 쓰기 후 만료 시간(todo.detail-cache.ttl-seconds)만큼 늦게 보일 수 있습니다.
+ */
+@Component
+public class TodoDetailCache {
+
+    private static final int GENERATION_STRIPES = 1024; // 무효화 세대를 나눠 보관할 구간 수 (2의 거듭제곱)
+
+    private final Cache<Long, TodoResponse> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES); // 구간별 무효화 횟수
+
+    public TodoDetailCache(
+            @Value("${todo.detail-cache.max-size:10000}") long maxSize,
+            @Value("${todo.detail-cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시된 Todo 응답을 반환하고, 없으면 조회하여 저장합니다.
+     * 같은 ID에 대한 동시 미스는 한 번만 조회합니다.
+     * 조회를 시작한 뒤 해당 항목이 무효화되었으면 조회한 값은 커밋 전 데이터일 수 있으므로 반환만 하고 저장하지 않습니다.
+     * 무효화 세대를 DB 조회보다 먼저 읽어야 하므로, 호출하는 트랜잭션에서 이 메서드 전에 Todo를 조회하지 않아야 합니다.
+     *
+     * @param todoId 조회할 Todo의 ID
+     * @param loader 캐시에 없을 때 Todo 응답을 조회하는 함수 (예외는 그대로 전달됨)
+     * @return TodoResponse 캐시된 Todo 응답
+     */
+    public TodoResponse get(long todoId, Function<Long, TodoResponse> loader) {
+        int stripe = stripe(todoId);
+        long generation = generations.get(stripe);  // DB 조회 전에 읽어야 조회 중의 무효화를 감지할 수 있음
+
+        TodoResponse[] loaded = new TodoResponse[1];
+        TodoResponse cached = cache.get(todoId, id -> {
+            loaded[0] = loader.apply(id);
+            return generations.get(stripe) == generation ? loaded[0] : null;  // null을 반환하면 저장되지 않음
+        });
+        return cached != null ? cached : loaded[0];
+    }
+
+    /**
+     * 특정 Todo의 캐시 항목을 제거합니다.
+     *
+     * @param todoId 제거할 Todo의 ID
+     */
+    public void evict(long todoId) {
+        generations.incrementAndGet(stripe(todoId));  // 진행 중인 조회가 값을 저장하지 못하도록 먼저 세대를 올림
+        cache.invalidate(todoId);
+    }
+
+    /**
+     * 캐시를 모두 비웁니다.
+     */
+    public void invalidateAll() {
+        advanceAllGenerations();
+        cache.invalidateAll();
+    }
+
+    /**
+     * 캐시 적중/미스/제거 통계를 반환합니다.
+     *
+     * @return CacheStats 누적 캐시 통계
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 현재 캐시된 항목 수(근사값)를 반환합니다.
+     *
+     * @return long 캐시 항목 수
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Todo 또는 Todo의 댓글/담당자가 변경되어 커밋되면 해당 Todo 항목을 무효화합니다.
+     *
+     * @param event Todo 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        evict(event.getTodoId());
+    }
+
+    /**
+     * 사용자가 변경/삭제되어 커밋되면 해당 사용자가 작성한 Todo 항목을 모두 무효화합니다.
+     *
+     * @param event 사용자 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        advanceAllGenerations();  // 조회 중인 항목은 작성자를 알 수 없으므로 모두 저장하지 않도록 함
+        cache.asMap().values().removeIf(todo -> event.getUserId().equals(todo.getUser().getId()));
+    }
+
+    private void advanceAllGenerations() {
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+    }
+
+    private static int stripe(long todoId) {
+        return Long.hashCode(todoId) & (GENERATION_STRIPES - 1);
+    }
+}
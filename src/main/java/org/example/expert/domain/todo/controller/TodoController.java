@@ -2,7 +2,10 @@ package org.example.expert.domain.todo.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.aop.AccessLogged;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.SliceResponse;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
@@ -10,17 +13,23 @@ import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+@AccessLogged
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final TodoService todoService;
 
     /**
@@ -41,23 +50,92 @@ public class TodoController {
 
     /**
      * Todo 항목 목록을 페이징 처리하여 조회하는 API 엔드포인트입니다.
+     * cursor 파라미터가 없고 slice=true가 아닌 요청을 처리합니다.
      *
      * @param page 조회할 페이지 번호 (기본값: 1)
      * @param size 한 페이지에 표시할 항목 수 (기본값: 10)
      * @param weather 날씨 정보를 포함한 요청 매개변수
      * @param startDate 조회할 시작 날짜
      * @param endDate 조회할 종료 날짜
+     * @param approximateTotal true이면 캐시된 근사 전체 건수를 사용 (기본값: false)
      * @return ResponseEntity<Page<TodoResponse>> Todo 목록 응답
      */
-    @GetMapping("/todos")
+    @GetMapping(value = "/todos", params = {"!cursor", "slice!=true"})
     public ResponseEntity<Page<TodoResponse>> getTodosAPU(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam("weather") String weather,
-            @RequestParam LocalDateTime startDate,
-            @RequestParam LocalDateTime endDate
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "false") boolean approximateTotal
+    ) {
+        return ResponseEntity.ok(todoService.getTodos(page, size, weather, startDate, endDate, approximateTotal));
+    }
+
+    /**
+     * Todo 항목 목록을 전체 건수 없이 조회하는 API 엔드포인트입니다.
+     * slice=true 파라미터가 있으면 이 엔드포인트로 처리되며, COUNT 쿼리 없이 다음 페이지 존재 여부만 반환합니다.
+     * cursor 파라미터와 함께 요청하면 어느 엔드포인트에도 매핑되지 않아 400 응답을 반환합니다.
+     *
+     * @param page 조회할 페이지 번호 (기본값: 1)
+     * @param size 한 페이지에 표시할 항목 수 (기본값: 10)
+     * @param weather 날씨 정보를 포함한 요청 매개변수
+     * @param startDate 조회할 시작 날짜
+     * @param endDate 조회할 종료 날짜
+     * @return ResponseEntity<SliceResponse<TodoResponse>> Todo 목록과 다음 페이지 존재 여부 응답
+     */
+    @GetMapping(value = "/todos", params = {"slice=true", "!cursor"})
+    public ResponseEntity<SliceResponse<TodoResponse>> getTodoSliceAPI(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam("weather") String weather,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate
+    ) {
+        return ResponseEntity.ok(todoService.getTodoSlice(page, size, weather, startDate, endDate));
+    }
+
+    /**
+     * Todo 항목 목록을 커서 기반으로 조회하는 API 엔드포인트입니다.
+     * cursor 파라미터가 있으면 이 엔드포인트로 처리되며, 첫 페이지는 빈 cursor 값으로 요청합니다. (slice=true와 함께 사용할 수 없음)
+     *
+     * @param cursor 직전 페이지 응답의 nextCursor (첫 페이지는 빈 값)
+     * @param size 한 페이지에 표시할 항목 수 (기본값: 10, 최대: 100)
+     * @param weather 날씨 정보를 포함한 요청 매개변수
+     * @param startDate 조회할 시작 날짜
+     * @param endDate 조회할 종료 날짜
+     * @return ResponseEntity<CursorResponse<TodoResponse>> Todo 목록과 다음 커서 응답
+     */
+    @GetMapping(value = "/todos", params = {"cursor", "slice!=true"})
+    public ResponseEntity<CursorResponse<TodoResponse>> getTodosByCursorAPI(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam("weather") String weather,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate
+    ) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size, weather, startDate, endDate));
+    }
+
+    /**
+     * 조건에 맞는 모든 Todo 항목을 NDJSON 형식으로 스트리밍하는 API 엔드포인트입니다.
+     * 페이지 단위 반복 조회 없이 한 번의 요청으로 전체 결과를 내려받을 수 있습니다.
+     *
+     * @param weather 날씨 필터 (선택)
+     * @param startDate 조회할 시작 날짜 (선택)
+     * @param endDate 조회할 종료 날짜 (선택)
+     * @return ResponseEntity<StreamingResponseBody> 한 줄에 하나의 TodoResponse JSON을 담은 응답
+     */
+    @GetMapping("/todos/export")
+    public ResponseEntity<StreamingResponseBody> exportTodosAPI(
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate
     ) {
-        return ResponseEntity.ok(todoService.getTodos(page, size, weather, startDate, endDate));
+        StreamingResponseBody body = out -> todoService.exportTodos(weather, startDate, endDate, out);
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(body);
     }
 
     /**
@@ -71,6 +149,35 @@ public class TodoController {
         return ResponseEntity.ok(todoService.getTodo(todoId));
     }
 
+    /**
+     * 특정 Todo 항목을 댓글, 담당자와 함께 삭제하는 API 엔드포인트입니다.
+     *
+     * @param authUser 인증된 사용자 정보
+     * @param todoId 삭제할 Todo의 ID
+     */
+    @DeleteMapping("/todos/{todoId}")
+    public void deleteTodoAPI(
+            @AuthenticationPrincipal AuthUser authUser,
+            @PathVariable long todoId
+    ) {
+        todoService.deleteTodo(authUser, todoId);
+    }
+
+    /**
+     * 여러 Todo 항목을 한 번에 삭제하는 API 엔드포인트입니다.
+     * 댓글과 담당자도 함께 삭제되며, 모든 항목의 작성자여야 합니다.
+     *
+     * @param authUser 인증된 사용자 정보
+     * @param ids 삭제할 Todo의 ID 목록 (예: ids=1,2,3, 최대 100개)
+     */
+    @DeleteMapping("/todos")
+    public void deleteTodosAPI(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam List<Long> ids
+    ) {
+        todoService.deleteTodos(authUser, ids);
+    }
+
     /**
      * 조건에 맞는 Todo 항목을 검색하는 API 엔드포인트입니다.
      *
@@ -81,6 +188,7 @@ public class TodoController {
      * @param startDate 검색할 시작 날짜
      * @param endDate 검색할 종료 날짜
      * @param nickname 작성자의 별명
+     * @param approximateTotal true이면 캐시된 근사 전체 건수를 사용 (기본값: false)
      * @return ResponseEntity<Page<TodoSearchResponse>> 검색된 Todo 목록 응답
      */
     @Secured({"ROLE_USER", "ROLE_ADMIN"})
@@ -92,9 +200,37 @@ public class TodoController {
             @RequestParam("title") String title,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
-            @RequestParam("nickname") String nickname
+            @RequestParam("nickname") String nickname,
+            @RequestParam(defaultValue = "false") boolean approximateTotal
     ) {
-        Page<TodoSearchResponse> result = todoService.searchTodos(authUser, page, size, title, startDate, endDate, nickname);
+        Page<TodoSearchResponse> result = todoService.searchTodos(
+                authUser, page, size, title, startDate, endDate, nickname, approximateTotal);
         return ResponseEntity.ok(result);
     }
+
+    /**
+     * 조건에 맞는 Todo 항목을 전체 건수 없이 검색하는 API 엔드포인트입니다.
+     * slice=true 파라미터가 있으면 이 엔드포인트로 처리되며, COUNT 쿼리 없이 다음 페이지 존재 여부만 반환합니다.
+     * cursor 파라미터와 함께 요청하면 어느 엔드포인트에도 매핑되지 않아 400 응답을 반환합니다.
+     *
+     * @param page 조회할 페이지 번호 (기본값: 1)
+     * @param size 한 페이지에 표시할 항목 수 (기본값: 10)
+     * @param title 검색할 Todo 제목
+     * @param startDate 검색할 시작 날짜
+     * @param endDate 검색할 종료 날짜
+     * @param nickname 작성자의 별명
+     * @return ResponseEntity<SliceResponse<TodoSearchResponse>> 검색된 Todo 목록과 다음 페이지 존재 여부 응답
+     */
+    @Secured({"ROLE_USER", "ROLE_ADMIN"})
+    @GetMapping(value = "/todos/search", params = "slice=true")
+    public ResponseEntity<SliceResponse<TodoSearchResponse>> searchTodoSliceAPI(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam("title") String title,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam("nickname") String nickname
+    ) {
+        return ResponseEntity.ok(todoService.searchTodoSlice(page, size, title, startDate, endDate, nickname));
+    }
 }
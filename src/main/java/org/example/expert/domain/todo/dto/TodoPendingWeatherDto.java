@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TodoPendingWeatherDto {
+
+    private final Long id;
+    private final LocalDateTime createdAt;  // 날씨를 조회할 기준 날짜
+
+    public TodoPendingWeatherDto(Long id, LocalDateTime createdAt) {
+        this.id = id;
+        this.createdAt = createdAt;
+    }
+}
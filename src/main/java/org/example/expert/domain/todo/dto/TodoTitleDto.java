@@ -0,0 +1,15 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+
+@Getter
+public class TodoTitleDto {
+
+    private final Long id;
+    private final String title;
+
+    public TodoTitleDto(Long id, String title) {
+        this.id = id;
+        this.title = title;
+    }
+}
@@ -3,9 +3,11 @@ package org.example.expert.domain.todo.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.enums.WeatherStatus;
 import org.example.expert.domain.user.entity.User;
 
 import java.util.ArrayList;
@@ -14,15 +16,34 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_weather_modified_at_id", columnList = "weather, modified_at, id"), // 커서 기반 목록 조회용
+        @Index(name = "idx_todos_weather_status_id", columnList = "weather_status, id"), // 날씨 대기 Todo 조회용
+        @Index(name = "idx_todos_created_at", columnList = "created_at") // 제목 색인 동기화 및 미반영 Todo 검색용
+})
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_seq")
+    @SequenceGenerator(name = "todo_seq", sequenceName = "todos_seq", allocationSize = 50) // pooled 방식으로 50개씩 ID 선할당
     private Long id;
     private String title;
     private String contents;
     private String weather;
 
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'RESOLVED'")
+    @Column(nullable = false, length = 20)
+    private WeatherStatus weatherStatus; // 날씨 조회 상태 (PENDING이면 weather가 아직 비어 있음)
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long commentCount; // 댓글 수 (UPDATE 증감으로만 변경)
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long managerCount; // 담당자 수 (UPDATE 증감으로만 변경)
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -30,14 +51,16 @@ public class Todo extends Timestamped {
     @OneToMany(mappedBy = "todo", cascade = CascadeType.REMOVE)
     private List<Comment> comments = new ArrayList<>();
 
-    @OneToMany(mappedBy = "todo")
+    @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
     private List<Manager> managers = new ArrayList<>();
 
     public Todo(String title, String contents, String weather, User user) {
         this.title = title;
         this.contents = contents;
         this.weather = weather;
+        this.weatherStatus = weather == null ? WeatherStatus.PENDING : WeatherStatus.RESOLVED;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.managerCount = this.managers.size();
     }
 }
@@ -0,0 +1,7 @@
+package org.example.expert.domain.todo.enums;
+
+public enum WeatherStatus {
+    PENDING,  // 날씨 조회 대기 중 (백그라운드에서 채워짐)
+    RESOLVED,  // 날씨가 채워진 상태
+    UNAVAILABLE  // 날씨 데이터에 해당 날짜가 없어 채울 수 없는 상태 (재처리하지 않음)
+}
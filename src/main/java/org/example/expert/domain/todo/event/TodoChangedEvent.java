@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+@Getter
+public class TodoChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Long todoId;  // 변경된 Todo ID
+    private final Type type;  // 변경 유형
+
+    public TodoChangedEvent(Long todoId, Type type) {
+        this.todoId = todoId;
+        this.type = type;
+    }
+}
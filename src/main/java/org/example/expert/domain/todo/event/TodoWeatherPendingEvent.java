@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TodoWeatherPendingEvent {
+
+    private final Long todoId;  // 날씨를 채울 Todo ID
+    private final LocalDateTime createdAt;  // Todo 생성 시각 (날씨 조회 기준 날짜)
+
+    public TodoWeatherPendingEvent(Long todoId, LocalDateTime createdAt) {
+        this.todoId = todoId;
+        this.createdAt = createdAt;
+    }
+}
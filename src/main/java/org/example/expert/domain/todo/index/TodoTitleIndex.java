@@ -0,0 +1,79 @@
+package org.example.expert.domain.todo.index;
+
+import org.example.expert.domain.common.index.TrigramIndex;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+@Component
+public class TodoTitleIndex {
+
+    private static final int MAX_CANDIDATES = 1_000; // IN 조건으로 전달할 최대 후보 수
+
+    private final TrigramIndex index = new TrigramIndex();
+    private volatile LocalDateTime syncedBefore; // 이 시각 이전에 생성된 Todo는 모두 색인에 반영됨 (적재 전이면 null)
+
+    /**
+     * Todo 제목을 색인에 추가합니다.
+     *
+     * @param todoId Todo ID
+     * @param title  Todo 제목
+     */
+    public void add(long todoId, String title) {
+        index.add(todoId, title);
+    }
+
+    /**
+     * Todo 제목을 색인에서 제거합니다.
+     *
+     * @param todoId Todo ID
+     * @param title  Todo 제목
+     */
+    public void remove(long todoId, String title) {
+        index.remove(todoId, title);
+    }
+
+    /**
+     * 주어진 시각 이전에 생성된 Todo가 모두 색인에 반영되었음을 표시합니다.
+     * 처음 호출된 이후부터 검색에 색인이 사용됩니다.
+     *
+     * @param syncedBefore 색인 반영이 보장되는 생성 시각의 상한
+     */
+    public void markSynced(LocalDateTime syncedBefore) {
+        this.syncedBefore = syncedBefore;
+    }
+
+    /**
+     * 색인 반영이 보장되는 생성 시각의 상한을 조회합니다.
+     * 이 시각 이후에 생성된 Todo는 다른 노드에서 저장되어 아직 색인에 없을 수 있으므로, 검색 시 DB 조건으로 함께 확인해야 합니다.
+     * 후보 조회보다 먼저 읽어야 후보 조회 시점의 색인 상태를 모두 포함합니다.
+     *
+     * @return LocalDateTime 색인 반영 상한 시각 (적재 전이면 null)
+     */
+    public LocalDateTime getSyncedBefore() {
+        return syncedBefore;
+    }
+
+    /**
+     * 제목 검색어에 대한 후보 Todo ID를 조회합니다.
+     * 후보는 trigram 기준의 상위 집합이므로 DB 조회 시 제목 조건을 함께 적용해야 하며,
+     * {@link #getSyncedBefore()} 이후에 생성된 Todo는 후보에 없을 수 있습니다.
+     *
+     * @param title 제목 검색어
+     * @return List<Long> 후보 Todo ID 목록 (빈 목록이면 일치 항목 없음),
+     *         색인을 사용할 수 없거나 후보가 너무 많으면 null
+     */
+    public List<Long> findCandidateIds(String title) {
+        if (syncedBefore == null) {
+            return null;
+        }
+
+        long[] candidates = index.search(title);
+        if (candidates == null || candidates.length > MAX_CANDIDATES) {
+            return null;  // 3자 미만 검색어이거나 선택도가 낮아 IN 조건이 유리하지 않음
+        }
+        return Arrays.stream(candidates).boxed().toList();
+    }
+}
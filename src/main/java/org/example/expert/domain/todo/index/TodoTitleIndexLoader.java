@@ -0,0 +1,70 @@
+package org.example.expert.domain.todo.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.TodoTitleDto;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoTitleIndexLoader {
+
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1); // 늦게 커밋된 다른 노드의 Todo를 놓치지 않도록 겹쳐 조회
+
+    private final TodoRepository todoRepository;
+    private final TodoTitleIndex todoTitleIndex;
+
+    /**
+     * 애플리케이션 시작 시 전체 Todo 제목을 스트리밍으로 읽어 제목 색인을 구성합니다.
+     * 적재 중에 저장되는 Todo는 TodoService에서 직접 색인에 추가되며, 중복 추가는 무시됩니다.
+     * 다른 노드에서 저장되는 Todo는 {@link #sync()}가 주기적으로 반영합니다.
+     */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        LocalDateTime syncStartedAt = LocalDateTime.now();
+        long startedAt = System.currentTimeMillis();
+        AtomicLong count = new AtomicLong();
+
+        try (Stream<TodoTitleDto> titles = todoRepository.streamAllTitles()) {
+            titles.forEach(todo -> {
+                todoTitleIndex.add(todo.getId(), todo.getTitle());
+                count.incrementAndGet();
+            });
+        }
+        todoTitleIndex.markSynced(syncStartedAt.minus(SYNC_OVERLAP));
+
+        log.info("Todo 제목 색인 적재 완료 - 건수: {}, 소요 시간: {}ms", count.get(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 마지막 동기화 이후 생성된 Todo 제목을 DB에서 읽어 색인에 반영합니다.
+     * 다른 노드에서 저장된 Todo를 반영하기 위한 것이며, 이미 색인된 항목의 중복 추가는 무시됩니다.
+     * 다른 노드에서 삭제된 Todo는 색인에 남지만, 검색 시 DB 조건으로 걸러지므로 결과에는 영향이 없습니다.
+     */
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${todo.title-index.sync-interval:PT5S}", initialDelayString = "${todo.title-index.sync-interval:PT5S}")
+    public void sync() {
+        LocalDateTime since = todoTitleIndex.getSyncedBefore();
+        if (since == null) {
+            return;  // 전체 적재 전
+        }
+
+        LocalDateTime syncStartedAt = LocalDateTime.now();
+        try (Stream<TodoTitleDto> titles = todoRepository.streamTitlesCreatedSince(since)) {
+            titles.forEach(todo -> todoTitleIndex.add(todo.getId(), todo.getTitle()));
+        }
+        todoTitleIndex.markSynced(syncStartedAt.minus(SYNC_OVERLAP));
+    }
+}
@@ -1,35 +1,187 @@
 package org.example.expert.domain.todo.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.todo.dto.TodoPendingWeatherDto;
+import org.example.expert.domain.todo.dto.TodoTitleDto;
 import org.example.expert.domain.todo.entity.Todo;
-import org.springframework.data.domain.Page;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface TodoRepository extends JpaRepository<Todo, Long>, TodoRepositoryCustom {
 
     /**
-     * 주어진 날씨와 수정 날짜를 기반으로 Todo 항목을 조회하고,
-     * 수정 날짜 기준으로 내림차순 정렬하여 페이지로 반환합니다.
+     * Todo의 댓글 수를 원자적으로 증감합니다.
+     *
+     * @param todoId 대상 Todo의 ID
+     * @param delta 증감할 값
+     * @return int 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount + :delta WHERE t.id = :todoId")
+    int addCommentCount(@Param("todoId") Long todoId, @Param("delta") long delta);
+
+    /**
+     * Todo의 담당자 수를 원자적으로 증감합니다.
+     *
+     * @param todoId 대상 Todo의 ID
+     * @param delta 증감할 값
+     * @return int 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + :delta WHERE t.id = :todoId")
+    int addManagerCount(@Param("todoId") Long todoId, @Param("delta") long delta);
+
+    /**
+     * 날씨 조회 대기 중인 Todo에 날씨를 채웁니다.
+     * 이미 날씨가 채워진 Todo는 변경하지 않습니다.
+     *
+     * @param todoIds 날씨를 채울 Todo의 ID 목록
+     * @param weather 채울 날씨
+     * @return int 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Todo t SET t.weather = :weather, " +
+            "t.weatherStatus = org.example.expert.domain.todo.enums.WeatherStatus.RESOLVED " +
+            "WHERE t.id IN :todoIds AND t.weatherStatus = org.example.expert.domain.todo.enums.WeatherStatus.PENDING")
+    int resolvePendingWeather(@Param("todoIds") Collection<Long> todoIds, @Param("weather") String weather);
+
+    /**
+     * 날씨 데이터에 생성 날짜가 없어 날씨를 채울 수 없는 Todo를 재처리 대상에서 제외합니다.
+     * 이미 날씨가 채워진 Todo는 변경하지 않습니다.
+     *
+     * @param todoIds 제외할 Todo의 ID 목록
+     * @return int 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Todo t SET t.weatherStatus = org.example.expert.domain.todo.enums.WeatherStatus.UNAVAILABLE " +
+            "WHERE t.id IN :todoIds AND t.weatherStatus = org.example.expert.domain.todo.enums.WeatherStatus.PENDING")
+    int markWeatherUnavailable(@Param("todoIds") Collection<Long> todoIds);
+
+    /**
+     * 주어진 시각 이전에 생성되어 아직 날씨 조회 대기 중인 Todo를 ID 순으로 조회합니다.
+     * 큐에서 누락된 항목을 다시 처리하기 위해 사용합니다.
+     *
+     * @param before 이 시각 이전에 생성된 Todo만 조회
+     * @param pageable 조회할 건수
+     * @return List<TodoPendingWeatherDto> 날씨 조회 대기 중인 Todo의 ID/생성 시각 목록
+     */
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoPendingWeatherDto(t.id, t.createdAt) FROM Todo t " +
+            "WHERE t.weatherStatus = org.example.expert.domain.todo.enums.WeatherStatus.PENDING AND t.createdAt < :before " +
+            "ORDER BY t.id")
+    List<TodoPendingWeatherDto> findPendingWeather(@Param("before") LocalDateTime before, Pageable pageable);
+
+    /**
+     * 날씨 조회 대기 중인 Todo 중 가장 오래된 생성 시각을 조회합니다.
+     *
+     * @return LocalDateTime 가장 오래된 대기 Todo의 생성 시각 (대기 중인 Todo가 없으면 null)
+     */
+    @Query("SELECT MIN(t.createdAt) FROM Todo t " +
+            "WHERE t.weatherStatus = org.example.expert.domain.todo.enums.WeatherStatus.PENDING")
+    LocalDateTime findOldestPendingWeatherCreatedAt();
+
+    /**
+     * 주어진 사용자가 작성한 Todo 중 ID 목록에 해당하는 항목의 ID와 제목을 조회합니다.
+     * 삭제 전 소유자 확인과 제목 색인 제거에 사용합니다.
+     *
+     * @param todoIds 조회할 Todo의 ID 목록
+     * @param userId 작성자 ID
+     * @return List<TodoTitleDto> 작성자가 일치하는 Todo의 ID/제목 목록
+     */
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoTitleDto(t.id, t.title) FROM Todo t " +
+            "WHERE t.id IN :todoIds AND t.user.id = :userId")
+    List<TodoTitleDto> findTitlesByIdInAndUserId(@Param("todoIds") Collection<Long> todoIds, @Param("userId") Long userId);
+
+    /**
+     * 주어진 ID 목록의 Todo를 한 번의 DELETE 문으로 삭제합니다.
+     * 댓글과 매니저는 먼저 삭제되어 있어야 하며, 실행 후 영속성 컨텍스트를 비웁니다.
+     *
+     * @param todoIds 삭제할 Todo의 ID 목록
+     * @return int 삭제된 Todo 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Todo t WHERE t.id IN :todoIds")
+    int deleteByIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+    /**
+     * 전체 Todo의 ID와 제목을 ID 순으로 스트리밍 조회합니다.
+     * 제목 색인 적재용이며, 호출하는 쪽의 트랜잭션 안에서 사용한 뒤 스트림을 닫아야 합니다.
+     *
+     * @return Stream<TodoTitleDto> ID 오름차순의 ID/제목 스트림
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoTitleDto(t.id, t.title) FROM Todo t ORDER BY t.id")
+    Stream<TodoTitleDto> streamAllTitles();
+
+    /**
+     * 주어진 시각 이후에 생성된 Todo의 ID와 제목을 스트리밍 조회합니다.
+     * 제목 색인의 주기적 동기화용이며, 호출하는 쪽의 트랜잭션 안에서 사용한 뒤 스트림을 닫아야 합니다.
+     *
+     * @param since 조회할 생성 시각의 하한 (포함)
+     * @return Stream<TodoTitleDto> ID 오름차순의 ID/제목 스트림
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoTitleDto(t.id, t.title) FROM Todo t WHERE t.createdAt >= :since ORDER BY t.id")
+    Stream<TodoTitleDto> streamTitlesCreatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 날씨와 수정 날짜 조건에 맞는 Todo 항목을 ID 순으로 스트리밍 조회합니다.
+     * 내보내기 전용이며, JDBC fetch size 단위로 결과를 가져오므로 결과 크기와 관계없이 메모리를 일정하게 사용합니다.
+     * (MySQL은 연결 URL에 useCursorFetch=true가 설정되어야 fetch size가 적용됩니다.)
+     * 호출하는 쪽의 트랜잭션 안에서 사용한 뒤 스트림을 닫아야 합니다.
      *
      * @param weather 조회할 Todo의 날씨 (null인 경우 필터링하지 않음)
      * @param startDate 조회할 시작 날짜 (null인 경우 필터링하지 않음)
      * @param endDate 조회할 종료 날짜 (null인 경우 필터링하지 않음)
-     * @param pageable 페이징 정보
-     * @return Page<Todo> 조건에 맞는 Todo 항목의 페이지
+     * @return Stream<Todo> ID 오름차순의 Todo 스트림 (사용자 정보 포함)
      */
-    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u " +
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Todo t JOIN FETCH t.user " +
             "WHERE (:weather IS NULL OR t.weather = :weather) " +
             "AND (:startDate IS NULL OR t.modifiedAt >= :startDate) " +
             "AND (:endDate IS NULL OR t.modifiedAt <= :endDate) " +
-            "ORDER BY t.modifiedAt DESC")
-    Page<Todo> findByWeatherAndOrderByModifiedAtDesc(
+            "ORDER BY t.id")
+    Stream<Todo> streamByWeather(
             @Param("weather") String weather,
             @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            Pageable pageable
+            @Param("endDate") LocalDateTime endDate
     );
+
+    /**
+     * 가장 큰 Todo ID를 조회합니다.
+     *
+     * @return Long 가장 큰 Todo ID (Todo가 없으면 null)
+     */
+    @Query("SELECT MAX(t.id) FROM Todo t")
+    Long findMaxId();
+
+    /**
+     * 주어진 ID 범위의 Todo 중 댓글 수/담당자 수가 실제 값과 다른 항목을 실제 값으로 보정합니다.
+     *
+     * @param fromId 시작 ID (포함)
+     * @param toId 종료 ID (포함)
+     * @return int 보정된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Todo t SET " +
+            "t.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id), " +
+            "t.managerCount = (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id) " +
+            "WHERE t.id BETWEEN :fromId AND :toId " +
+            "AND (t.commentCount <> (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id) " +
+            "OR t.managerCount <> (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id))")
+    int reconcileCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -1,34 +1,83 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
-import org.example.expert.domain.todo.entity.Todo;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface TodoRepositoryCustom {
 
     /**
-     * 주어진 Todo ID를 사용하여 Todo 항목과 해당 사용자 정보를 조회합니다.
+     * 주어진 Todo ID를 사용하여 Todo 항목과 해당 사용자 정보를 응답 DTO로 바로 조회합니다.
+     * 응답에 필요한 컬럼만 조회하며 엔티티를 영속성 컨텍스트에 올리지 않습니다.
      *
      * @param todoId 조회할 Todo의 ID
-     * @return Optional<Todo> 해당 ID에 대한 Todo 항목 및 사용자 정보 (존재하지 않을 경우 빈 Optional)
+     * @return Optional<TodoResponse> 해당 ID에 대한 Todo 항목 및 사용자 정보 (존재하지 않을 경우 빈 Optional)
      */
-    Optional<Todo> findByIdWithUser(Long todoId);
+    Optional<TodoResponse> findTodoResponseById(Long todoId);
+
+    /**
+     * 날씨와 수정 날짜 조건에 맞는 Todo 항목을 수정 날짜 내림차순으로 응답 DTO로 조회합니다.
+     *
+     * @param weather 조회할 Todo의 날씨 (null인 경우 필터링하지 않음)
+     * @param startDate 조회할 시작 날짜 (null인 경우 필터링하지 않음)
+     * @param endDate 조회할 종료 날짜 (null인 경우 필터링하지 않음)
+     * @param offset 건너뛸 건수
+     * @param limit 조회할 최대 건수
+     * @return List<TodoResponse> 수정 날짜, ID 내림차순으로 정렬된 Todo 목록 (사용자 정보 포함)
+     */
+    List<TodoResponse> findTodoResponsesByWeather(String weather, LocalDateTime startDate, LocalDateTime endDate, long offset, int limit);
+
+    /**
+     * 날씨와 수정 날짜 조건에 맞는 Todo 항목 수를 조회합니다.
+     *
+     * @param weather 조회할 Todo의 날씨 (null인 경우 필터링하지 않음)
+     * @param startDate 조회할 시작 날짜 (null인 경우 필터링하지 않음)
+     * @param endDate 조회할 종료 날짜 (null인 경우 필터링하지 않음)
+     * @return long 조건에 맞는 Todo 항목 수
+     */
+    long countByWeather(String weather, LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * 날씨와 수정 날짜 조건에 맞는 Todo 항목을 커서(수정 날짜, ID) 이후부터 응답 DTO로 조회합니다.
+     * OFFSET 없이 (modifiedAt, id) 기준으로 탐색하므로 깊은 페이지도 첫 페이지와 같은 비용으로 조회됩니다.
+     *
+     * @param weather 조회할 Todo의 날씨 (null인 경우 필터링하지 않음)
+     * @param startDate 조회할 시작 날짜 (null인 경우 필터링하지 않음)
+     * @param endDate 조회할 종료 날짜 (null인 경우 필터링하지 않음)
+     * @param cursor 직전 페이지의 마지막 항목 커서 (null인 경우 첫 페이지)
+     * @param limit 조회할 최대 건수
+     * @return List<TodoResponse> 수정 날짜, ID 내림차순으로 정렬된 Todo 목록 (사용자 정보 포함)
+     */
+    List<TodoResponse> findTodoResponsesByWeatherWithCursor(
+            String weather, LocalDateTime startDate, LocalDateTime endDate, Cursor cursor, int limit);
 
     /**
      * 제목, 생성 날짜, 그리고 사용자 별명을 기반으로 Todo 항목을 검색합니다.
-     * 검색된 결과는 페이지로 반환됩니다.
      *
      * @param title 검색할 Todo의 제목
      * @param startDate 검색할 시작 날짜
      * @param endDate 검색할 종료 날짜
      * @param nickname 검색할 사용자 별명
-     * @param pageable 페이징 정보
-     * @return Page<TodoSearchResponse> 조건에 맞는 Todo 항목의 페이지
+     * @param offset 건너뛸 건수
+     * @param limit 조회할 최대 건수
+     * @return List<TodoSearchResponse> 생성 날짜 내림차순으로 정렬된 검색 결과
+     */
+    List<TodoSearchResponse> searchTodosByTitleAndCreatedAtAndNickname(
+            String title, LocalDateTime startDate, LocalDateTime endDate, String nickname, long offset, int limit);
+
+    /**
+     * 제목, 생성 날짜, 그리고 사용자 별명 조건에 맞는 Todo 항목 수를 조회합니다.
+     *
+     * @param title 검색할 Todo의 제목
+     * @param startDate 검색할 시작 날짜
+     * @param endDate 검색할 종료 날짜
+     * @param nickname 검색할 사용자 별명
+     * @return long 조건에 맞는 Todo 항목 수
      */
-    Page<TodoSearchResponse> searchTodosByTitleAndCreatedAtAndNickname(
-            String title, LocalDateTime startDate, LocalDateTime endDate, String nickname, Pageable pageable);
+    long countTodosByTitleAndCreatedAtAndNickname(
+            String title, LocalDateTime startDate, LocalDateTime endDate, String nickname);
 }
@@ -1,19 +1,25 @@
 package org.example.expert.domain.todo.repository;
 
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
-import org.example.expert.domain.comment.entity.QComment;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 import org.example.expert.domain.todo.entity.QTodo;
-import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.index.TodoTitleIndex;
+import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.QUser;
+import org.example.expert.domain.user.index.UserNicknameIndex;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -23,103 +29,307 @@ import java.util.Optional;
 public class TodoRepositoryImpl implements TodoRepositoryCustom {
 
     private final EntityManager entityManager;
+    private final TodoTitleIndex todoTitleIndex;
+    private final UserNicknameIndex userNicknameIndex;
 
     @Autowired
-    public TodoRepositoryImpl(EntityManager entityManager) {
+    public TodoRepositoryImpl(EntityManager entityManager, TodoTitleIndex todoTitleIndex, UserNicknameIndex userNicknameIndex) {
         this.entityManager = entityManager;
+        this.todoTitleIndex = todoTitleIndex;
+        this.userNicknameIndex = userNicknameIndex;
     }
 
     /**
-     * 주어진 Todo ID를 사용하여 Todo 항목과 해당 사용자 정보를 조회합니다.
+     * 주어진 Todo ID를 사용하여 Todo 항목과 해당 사용자 정보를 응답 DTO로 바로 조회합니다.
      *
      * @param todoId 조회할 Todo의 ID
-     * @return Optional<Todo> 해당 ID에 대한 Todo 항목 및 사용자 정보 (존재하지 않을 경우 빈 Optional)
+     * @return Optional<TodoResponse> 해당 ID에 대한 Todo 항목 및 사용자 정보 (존재하지 않을 경우 빈 Optional)
      */
     @Override
-    public Optional<Todo> findByIdWithUser(Long todoId) {
+    public Optional<TodoResponse> findTodoResponseById(Long todoId) {
         QTodo todo = QTodo.todo;
         QUser user = QUser.user;
 
         JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
 
-        Todo result = queryFactory.selectFrom(todo)
-                .leftJoin(todo.user, user)  // LEFT JOIN 수행
+        TodoResponse result = queryFactory.select(todoResponse())
+                .from(todo)
+                .join(todo.user, user)  // 응답에 필요한 사용자 컬럼만 함께 조회
                 .where(todo.id.eq(todoId))  // todoId로 필터링
                 .fetchOne();  // 결과를 하나 가져오기
 
         return Optional.ofNullable(result);  // 결과가 없으면 Optional.empty() 반환
     }
 
+    /**
+     * 날씨와 수정 날짜 조건에 맞는 Todo 항목을 수정 날짜 내림차순으로 응답 DTO로 조회합니다.
+     *
+     * @param weather 조회할 Todo의 날씨 (null인 경우 필터링하지 않음)
+     * @param startDate 조회할 시작 날짜 (null인 경우 필터링하지 않음)
+     * @param endDate 조회할 종료 날짜 (null인 경우 필터링하지 않음)
+     * @param offset 건너뛸 건수
+     * @param limit 조회할 최대 건수
+     * @return List<TodoResponse> 수정 날짜, ID 내림차순으로 정렬된 Todo 목록 (사용자 정보 포함)
+     */
+    @Override
+    public List<TodoResponse> findTodoResponsesByWeather(
+            String weather, LocalDateTime startDate, LocalDateTime endDate, long offset, int limit) {
+
+        QTodo todo = QTodo.todo;
+        QUser user = QUser.user;
+
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+
+        return queryFactory.select(todoResponse())
+                .from(todo)
+                .join(todo.user, user)
+                .where(weatherCondition(weather, startDate, endDate))
+                .orderBy(todo.modifiedAt.desc(), todo.id.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 날씨와 수정 날짜 조건에 맞는 Todo 항목 수를 조회합니다.
+     *
+     * @param weather 조회할 Todo의 날씨 (null인 경우 필터링하지 않음)
+     * @param startDate 조회할 시작 날짜 (null인 경우 필터링하지 않음)
+     * @param endDate 조회할 종료 날짜 (null인 경우 필터링하지 않음)
+     * @return long 조건에 맞는 Todo 항목 수
+     */
+    @Override
+    public long countByWeather(String weather, LocalDateTime startDate, LocalDateTime endDate) {
+        QTodo todo = QTodo.todo;
+
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+
+        Long total = queryFactory.select(todo.count())
+                .from(todo)
+                .where(weatherCondition(weather, startDate, endDate))
+                .fetchOne();
+        return total == null ? 0L : total;
+    }
+
+    /**
+     * 날씨와 수정 날짜 조건에 맞는 Todo 항목을 커서(수정 날짜, ID) 이후부터 응답 DTO로 조회합니다.
+     *
+     * @param weather 조회할 Todo의 날씨 (null인 경우 필터링하지 않음)
+     * @param startDate 조회할 시작 날짜 (null인 경우 필터링하지 않음)
+     * @param endDate 조회할 종료 날짜 (null인 경우 필터링하지 않음)
+     * @param cursor 직전 페이지의 마지막 항목 커서 (null인 경우 첫 페이지)
+     * @param limit 조회할 최대 건수
+     * @return List<TodoResponse> 수정 날짜, ID 내림차순으로 정렬된 Todo 목록 (사용자 정보 포함)
+     */
+    @Override
+    public List<TodoResponse> findTodoResponsesByWeatherWithCursor(
+            String weather, LocalDateTime startDate, LocalDateTime endDate, Cursor cursor, int limit) {
+
+        QTodo todo = QTodo.todo;
+        QUser user = QUser.user;
+
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+
+        BooleanBuilder condition = weatherCondition(weather, startDate, endDate);
+
+        // 커서 이후 항목만 조회 (modifiedAt < 커서 시각 OR (modifiedAt = 커서 시각 AND id < 커서 ID))
+        if (cursor != null) {
+            condition.and(todo.modifiedAt.lt(cursor.getTimestamp())
+                    .or(todo.modifiedAt.eq(cursor.getTimestamp()).and(todo.id.lt(cursor.getId()))));
+        }
+
+        return queryFactory.select(todoResponse())
+                .from(todo)
+                .join(todo.user, user)
+                .where(condition)
+                .orderBy(todo.modifiedAt.desc(), todo.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
     /**
      * 제목, 생성 날짜, 그리고 사용자 별명을 기반으로 Todo 항목을 검색합니다.
-     * 검색된 결과는 페이지로 반환됩니다.
+     * <p>
+     * 담당자 수와 댓글 수는 Todo에 비정규화된 컬럼에서 읽으므로 댓글/담당자 조인이나 집계가 없습니다.
+     * 제목 조건은 DB 조회 전에 제목 trigram 색인으로 후보 ID를 좁힌 뒤, 후보에 대해서만 LIKE로 검증합니다.
+     * 별명 조건은 닉네임 색인으로 구한 사용자 ID를 PK로 조회하는 서브쿼리로 검증한 뒤 user_id 외래 키 인덱스를 타는 IN 조건으로 변환하며, 사용자 조인이 없습니다.
      *
      * @param title 검색할 Todo의 제목
      * @param startDate 검색할 시작 날짜
      * @param endDate 검색할 종료 날짜
      * @param nickname 검색할 사용자 별명
-     * @param pageable 페이징 정보
-     * @return Page<TodoSearchResponse> 조건에 맞는 Todo 항목의 페이지
+     * @param offset 건너뛸 건수
+     * @param limit 조회할 최대 건수
+     * @return List<TodoSearchResponse> 생성 날짜 내림차순으로 정렬된 검색 결과
      */
     @Override
-    public Page<TodoSearchResponse> searchTodosByTitleAndCreatedAtAndNickname(
-            String title, LocalDateTime startDate, LocalDateTime endDate, String nickname, Pageable pageable) {
+    public List<TodoSearchResponse> searchTodosByTitleAndCreatedAtAndNickname(
+            String title, LocalDateTime startDate, LocalDateTime endDate, String nickname, long offset, int limit) {
 
         QTodo qTodo = QTodo.todo;
-        QUser qUser = QUser.user;
-        QComment qComment = QComment.comment;
 
-        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        SearchFilter filter = searchFilter(title, startDate, endDate, nickname);
+        return filter.query(new JPAQueryFactory(entityManager), Projections.constructor(TodoSearchResponse.class,
+                        qTodo.title,
+                        qTodo.managerCount,
+                        qTodo.commentCount
+                ))
+                .orderBy(qTodo.createdAt.desc(), qTodo.id.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
 
-        // 기본 조건을 생성합니다
-        BooleanExpression condition = null;
+    /**
+     * 제목, 생성 날짜, 그리고 사용자 별명 조건에 맞는 Todo 항목 수를 조회합니다.
+     * 목록 조회와 동일한 조인/조건을 사용합니다.
+     *
+     * @param title 검색할 Todo의 제목
+     * @param startDate 검색할 시작 날짜
+     * @param endDate 검색할 종료 날짜
+     * @param nickname 검색할 사용자 별명
+     * @return long 조건에 맞는 Todo 항목 수
+     */
+    @Override
+    public long countTodosByTitleAndCreatedAtAndNickname(
+            String title, LocalDateTime startDate, LocalDateTime endDate, String nickname) {
+
+        SearchFilter filter = searchFilter(title, startDate, endDate, nickname);
+        Long total = filter.query(new JPAQueryFactory(entityManager), QTodo.todo.count()).fetchOne();
+        return total == null ? 0L : total;
+    }
+
+    /**
+     * Todo 응답 DTO 생성자 프로젝션을 생성합니다.
+     * 응답에 필요한 Todo/사용자 컬럼만 조회하므로 엔티티 생성과 변경 감지용 스냅샷이 만들어지지 않습니다.
+     * 사용자 컬럼을 참조하므로 쿼리에 todo.user 조인이 있어야 합니다.
+     *
+     * @return ConstructorExpression<TodoResponse> 응답 DTO 프로젝션
+     */
+    private static ConstructorExpression<TodoResponse> todoResponse() {
+        QTodo todo = QTodo.todo;
+        QUser user = QUser.user;
+
+        return Projections.constructor(TodoResponse.class,
+                todo.id,
+                todo.title,
+                todo.contents,
+                todo.weather,
+                Projections.constructor(UserResponse.class, user.id, user.email),
+                todo.createdAt,
+                todo.modifiedAt,
+                todo.commentCount,
+                todo.managerCount
+        );
+    }
+
+    /**
+     * 날씨와 수정 날짜 조건을 생성합니다.
+     *
+     * @param weather 조회할 Todo의 날씨 (null인 경우 필터링하지 않음)
+     * @param startDate 조회할 시작 날짜 (null인 경우 필터링하지 않음)
+     * @param endDate 조회할 종료 날짜 (null인 경우 필터링하지 않음)
+     * @return BooleanBuilder 조회 조건
+     */
+    private BooleanBuilder weatherCondition(String weather, LocalDateTime startDate, LocalDateTime endDate) {
+        QTodo todo = QTodo.todo;
+
+        BooleanBuilder condition = new BooleanBuilder();
+        if (weather != null) {
+            condition.and(todo.weather.eq(weather));
+        }
+        if (startDate != null) {
+            condition.and(todo.modifiedAt.goe(startDate));
+        }
+        if (endDate != null) {
+            condition.and(todo.modifiedAt.loe(endDate));
+        }
+        return condition;
+    }
 
-        // title 조건 추가 (title이 null이 아니면 조건 추가)
-        if (title != null && !title.isEmpty()) {
-            condition = qTodo.title.containsIgnoreCase(title);  // 일부 글자 포함 검색
+    /**
+     * 검색 조건을 생성합니다.
+     * 제목/별명 조건은 메모리 색인으로 먼저 후보를 확인하여 ID IN 조건으로 변환합니다.
+     * 색인은 노드마다 따로 유지되므로, 색인 동기화 시각 이후에 저장된 항목은 DB 조건으로 함께 확인합니다.
+     *
+     * @param title 검색할 Todo의 제목 (null 또는 빈 값이면 조건 제외)
+     * @param startDate 검색할 시작 날짜
+     * @param endDate 검색할 종료 날짜
+     * @param nickname 검색할 사용자 별명 (null 또는 빈 값이면 조건 제외)
+     * @return SearchFilter 검색 조건과 사용자 조인 여부
+     */
+    private SearchFilter searchFilter(String title, LocalDateTime startDate, LocalDateTime endDate, String nickname) {
+        QTodo qTodo = QTodo.todo;
+
+        BooleanBuilder condition = new BooleanBuilder();
+
+        // title 조건 추가 (색인 후보로 좁힌 뒤 일부 글자 포함 검색으로 검증)
+        if (StringUtils.hasText(title)) {
+            LocalDateTime syncedBefore = todoTitleIndex.getSyncedBefore();  // 후보 조회보다 먼저 읽어야 함
+            List<Long> candidateIds = todoTitleIndex.findCandidateIds(title);
+            if (candidateIds != null) {
+                // 색인에 아직 반영되지 않았을 수 있는 최근 Todo는 후보와 관계없이 DB에서 확인
+                condition.and(candidateIds.isEmpty()
+                        ? qTodo.createdAt.goe(syncedBefore)
+                        : qTodo.id.in(candidateIds).or(qTodo.createdAt.goe(syncedBefore)));
+            }
+            condition.and(qTodo.title.containsIgnoreCase(title));
         }
 
         // startDate, endDate 조건 추가 (날짜가 null이 아니면 조건 추가)
         if (startDate != null && endDate != null) {
-            if (condition == null) {
-                condition = qTodo.createdAt.between(startDate, endDate);
-            } else {
-                condition = condition.and(qTodo.createdAt.between(startDate, endDate));
-            }
+            condition.and(qTodo.createdAt.between(startDate, endDate));
         }
 
-        // nickname 조건 추가 (nickname이 null이 아니면 조건 추가)
-        if (nickname != null && !nickname.isEmpty()) {
-            if (condition == null) {
-                condition = qUser.nickname.containsIgnoreCase(nickname);  // 일부 글자 포함 검색
-            } else {
-                condition = condition.and(qUser.nickname.containsIgnoreCase(nickname));
+        // nickname 조건 추가 (색인을 사용할 수 없을 때만 사용자 조인 후 일부 글자 포함 검색)
+        if (StringUtils.hasText(nickname)) {
+            LocalDateTime syncedBefore = userNicknameIndex.getSyncedBefore();  // 사용자 ID 조회보다 먼저 읽어야 함
+            List<Long> userIds = userNicknameIndex.findUserIds(nickname);
+            if (userIds == null) {
+                condition.and(QUser.user.nickname.containsIgnoreCase(nickname));
+                return new SearchFilter(condition, true);
             }
+
+            // 다른 노드에서 동기화 이후 변경된 사용자는 색인과 관계없이 포함하고, 닉네임은 DB 값으로 다시 검증
+            QUser nicknameUser = new QUser("nicknameUser");
+            BooleanExpression recentlyModified = nicknameUser.modifiedAt.goe(syncedBefore);
+            condition.and(qTodo.user.id.in(JPAExpressions.select(nicknameUser.id)
+                    .from(nicknameUser)
+                    .where(userIds.isEmpty() ? recentlyModified : nicknameUser.id.in(userIds).or(recentlyModified),
+                            nicknameUser.nickname.containsIgnoreCase(nickname))));
         }
 
-        // 쿼리 실행
-        List<TodoSearchResponse> results = queryFactory
-                .select(Projections.fields(TodoSearchResponse.class,
-                        qTodo.title,
-                        qUser.count().as("nicknameCount"),
-                        qComment.count().as("commentCount")
-                ))
-                .from(qTodo)
-                .leftJoin(qTodo.user, qUser)
-                .leftJoin(qTodo.comments, qComment)
-                .where(condition) // 동적으로 생성된 조건을 사용
-                .groupBy(qTodo.id)
-                .orderBy(qTodo.createdAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+        return new SearchFilter(condition, false);
+    }
 
-        // 전체 count 계산
-        long total = queryFactory
-                .selectFrom(qTodo)
-                .where(condition)
-                .fetchCount();
+    /**
+     * 검색 조건과 사용자 조인 여부를 함께 보관합니다.
+     */
+    private static class SearchFilter {
 
-        return new PageImpl<>(results, pageable, total);
+        private final BooleanBuilder condition;
+        private final boolean joinUser;  // 별명 조건을 위해 사용자 조인이 필요한지 여부
+
+        private SearchFilter(BooleanBuilder condition, boolean joinUser) {
+            this.condition = condition;
+            this.joinUser = joinUser;
+        }
+
+        /**
+         * 검색 조건이 적용된 기본 쿼리를 생성합니다.
+         *
+         * @param queryFactory 쿼리 팩토리
+         * @param projection 조회할 표현식
+         * @return JPAQuery<T> 검색 쿼리
+         */
+        private <T> JPAQuery<T> query(JPAQueryFactory queryFactory, Expression<T> projection) {
+            QTodo qTodo = QTodo.todo;
+
+            JPAQuery<T> query = queryFactory.select(projection).from(qTodo);
+            if (joinUser) {
+                query.join(qTodo.user, QUser.user);
+            }
+            return query.where(condition);
+        }
     }
 }
@@ -0,0 +1,43 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.cache.TodoDetailCache;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoCountReconciler {
+
+    private static final long BATCH_SIZE = 1_000L; // 한 트랜잭션에서 보정할 Todo ID 범위
+
+    private final TodoRepository todoRepository;
+    private final TodoDetailCache todoDetailCache;
+
+    /**
+     * Todo에 비정규화된 댓글 수/담당자 수를 실제 값과 비교하여 보정합니다.
+     * <p>
+     * 증감 UPDATE가 누락되거나 직접 삭제된 데이터로 인해 생긴 오차를 주기적으로 바로잡으며,
+     * 잠금 범위를 줄이기 위해 ID 범위 단위로 나누어 각각 별도 트랜잭션에서 실행합니다.
+     */
+    @Scheduled(cron = "${todo.count-reconcile.cron:0 0 4 * * *}")
+    public void reconcile() {
+        Long maxId = todoRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+
+        long fixed = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += BATCH_SIZE) {
+            fixed += todoRepository.reconcileCounts(fromId, fromId + BATCH_SIZE - 1);
+        }
+
+        if (fixed > 0) {
+            log.warn("Todo 댓글/담당자 수 보정 완료 - 보정된 Todo 수: {}", fixed);
+            todoDetailCache.invalidateAll();  // 보정 전 수치가 캐시된 응답 제거
+        }
+    }
+}
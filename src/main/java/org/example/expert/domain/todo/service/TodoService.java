@@ -1,75 +1,173 @@
 package org.example.expert.domain.todo.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.SliceResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoTitleDto;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.cache.TodoCountCache;
+import org.example.expert.domain.todo.cache.TodoDetailCache;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.todo.event.TodoWeatherPendingEvent;
+import org.example.expert.domain.todo.index.TodoTitleIndex;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
-import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserReferenceResolver;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100; // 커서 조회 시 허용하는 최대 페이지 크기
+    private static final int EXPORT_CLEAR_INTERVAL = 500; // 내보내기 중 영속성 컨텍스트를 비우는 간격
+    private static final byte NEWLINE = '\n';
+    private static final int MAX_BULK_DELETE_SIZE = 100; // 한 번에 삭제할 수 있는 최대 Todo 수
+
     private final TodoRepository todoRepository;
-    private final UserRepository userRepository;
+    private final UserReferenceResolver userReferenceResolver;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
     private final WeatherClient weatherClient;
+    private final TodoTitleIndex todoTitleIndex;
+    private final TodoCountCache todoCountCache;
+    private final TodoDetailCache todoDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 새로운 Todo 항목을 저장합니다.
-     * 사용자가 이미 존재하는 경우 해당 사용자를 재사용하고, 존재하지 않는 경우 새로 생성합니다.
+     * 작성자는 인증된 사용자의 ID로 만든 참조를 사용하므로 사용자를 조회하지 않습니다.
+     * 날씨는 트랜잭션 시작 전에 미리 적재된 데이터에서만 조회하며(외부 API 호출 없음),
+     * 없으면 날씨 없이(PENDING) 저장한 뒤 커밋 후 백그라운드에서 채웁니다.
+     * DB 작업만 짧은 트랜잭션으로 실행하므로 저장 지연이 외부 API 응답 시간에 영향을 받지 않습니다.
      *
      * @param authUser        인증된 사용자 정보
      * @param todoSaveRequest 저장할 Todo 항목의 정보
      * @return TodoSaveResponse 저장된 Todo 항목의 정보
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
-        // 기존 이메일로 사용자가 존재하는지 확인
-        Optional<User> existingUser = userRepository.findByEmail(authUser.getEmail());
-
-        // 기존 사용자 정보가 있으면 해당 사용자 사용, 없으면 새로 생성
-        User user;
-        if (existingUser.isPresent()) {
-            user = existingUser.get();  // 이미 존재하는 사용자 사용
-        } else {
-            user = new User(authUser.getEmail(), authUser.getNickname(), authUser.getUserRole());
-            user = userRepository.save(user);  // 새 사용자 생성
+        String weather = weatherClient.findTodayWeather().orElse(null);  // 적재된 오늘의 날씨 (없으면 나중에 채움)
+
+        return transactionTemplate.execute(status -> {
+            User user = userReferenceResolver.resolve(authUser);  // 작성자 참조 (SELECT 없음)
+
+            Todo newTodo = new Todo(
+                    todoSaveRequest.getTitle(),
+                    todoSaveRequest.getContents(),
+                    weather,
+                    user
+            );
+            Todo savedTodo = todoRepository.save(newTodo);  // Todo 항목 저장
+            todoTitleIndex.add(savedTodo.getId(), savedTodo.getTitle());  // 제목 색인에 추가 (롤백되어도 후보 검증 단계에서 걸러짐)
+            eventPublisher.publishEvent(new TodoChangedEvent(savedTodo.getId(), TodoChangedEvent.Type.CREATED));
+            if (weather == null) {
+                // 커밋 후 백그라운드에서 날씨를 채우도록 요청
+                eventPublisher.publishEvent(new TodoWeatherPendingEvent(savedTodo.getId(), savedTodo.getCreatedAt()));
+            }
+
+            return new TodoSaveResponse(
+                    savedTodo.getId(),
+                    savedTodo.getTitle(),
+                    savedTodo.getContents(),
+                    weather,
+                    new UserResponse(authUser.getId(), authUser.getEmail())  // 프록시 초기화를 피하기 위해 인증 정보 사용
+            );
+        });
+    }
+
+    /**
+     * 특정 Todo 항목을 댓글, 매니저와 함께 삭제합니다.
+     *
+     * @param authUser 인증된 사용자 정보
+     * @param todoId   삭제할 Todo의 ID
+     * @throws InvalidRequestException Todo 항목이 없거나 작성자가 아닌 경우
+     */
+    @Transactional
+    public void deleteTodo(AuthUser authUser, long todoId) {
+        deleteTodos(authUser, List.of(todoId));
+    }
+
+    /**
+     * 여러 Todo 항목을 댓글, 매니저와 함께 한 트랜잭션에서 삭제합니다.
+     * 엔티티를 조회하지 않고 테이블별 DELETE 문 한 번씩으로 삭제하므로 댓글 수와 관계없이 문장 수가 일정합니다.
+     * 모든 Todo의 작성자가 요청한 사용자여야 하며, 하나라도 아니면 아무것도 삭제하지 않습니다.
+     *
+     * @param authUser 인증된 사용자 정보
+     * @param todoIds  삭제할 Todo의 ID 목록 (최대 100개, 중복은 제거됨)
+     * @throws InvalidRequestException ID 목록이 비어 있거나, 존재하지 않거나 작성자가 아닌 Todo가 포함된 경우
+     */
+    @Transactional
+    public void deleteTodos(AuthUser authUser, List<Long> todoIds) {
+        if (todoIds == null || todoIds.isEmpty()) {
+            throw new InvalidRequestException("삭제할 Todo ID를 입력해주세요.");
+        }
+        Set<Long> ids = new LinkedHashSet<>(todoIds);  // 중복 제거
+        if (ids.size() > MAX_BULK_DELETE_SIZE) {
+            throw new InvalidRequestException("한 번에 삭제할 수 있는 Todo는 최대 " + MAX_BULK_DELETE_SIZE + "개입니다.");
         }
 
-        String weather = weatherClient.getTodayWeather();  // 오늘의 날씨를 가져옴
+        // 작성자 확인 (요청한 ID가 모두 본인 소유여야 함)
+        List<TodoTitleDto> todos = todoRepository.findTitlesByIdInAndUserId(ids, authUser.getId());
+        if (todos.size() != ids.size()) {
+            throw new InvalidRequestException("존재하지 않거나 작성자가 아닌 Todo가 포함되어 있습니다.");
+        }
 
-        Todo newTodo = new Todo(
-                todoSaveRequest.getTitle(),
-                todoSaveRequest.getContents(),
-                weather,
-                user
-        );
-        Todo savedTodo = todoRepository.save(newTodo);  // Todo 항목 저장
-
-        return new TodoSaveResponse(
-                savedTodo.getId(),
-                savedTodo.getTitle(),
-                savedTodo.getContents(),
-                weather,
-                new UserResponse(user.getId(), user.getEmail())
-        );
+        // 자식 테이블부터 집합 단위로 삭제
+        commentRepository.deleteByTodoIdIn(ids);
+        managerRepository.deleteByTodoIdIn(ids);
+        todoRepository.deleteByIdIn(ids);
+
+        for (TodoTitleDto todo : todos) {
+            eventPublisher.publishEvent(new TodoChangedEvent(todo.getId(), TodoChangedEvent.Type.DELETED));
+        }
+
+        // 커밋된 경우에만 제목 색인에서 제거 (롤백 시 검색 누락 방지)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (TodoTitleDto todo : todos) {
+                    todoTitleIndex.remove(todo.getId(), todo.getTitle());
+                }
+            }
+        });
     }
 
     /**
@@ -80,47 +178,108 @@ public class TodoService {
      * @param weather    날씨 필터
      * @param startDate  시작 날짜 (null 가능)
      * @param endDate    종료 날짜 (null 가능)
+     * @param approximateTotal true이면 캐시된 근사 전체 건수를 사용하여 COUNT 쿼리를 생략
      * @return Page<TodoResponse> 조건에 맞는 Todo 항목의 페이지
      */
-    public Page<TodoResponse> getTodos(int page, int size, String weather, LocalDateTime startDate, LocalDateTime endDate) {
+    public Page<TodoResponse> getTodos(
+            int page, int size, String weather, LocalDateTime startDate, LocalDateTime endDate, boolean approximateTotal) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findByWeatherAndOrderByModifiedAtDesc(
-                weather, startDate, endDate, pageable
+        List<TodoResponse> todos = todoRepository.findTodoResponsesByWeather(
+                weather, startDate, endDate, pageable.getOffset(), pageable.getPageSize()
         );
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+
+        // 전체 건수가 필요한 경우에만 계산 (마지막 페이지 등은 목록 크기로 판단)
+        return PageableExecutionUtils.getPage(todos, pageable, () -> approximateTotal
+                ? todoCountCache.get(TodoCountCache.key("list", weather, startDate, endDate),
+                        () -> todoRepository.countByWeather(weather, startDate, endDate))
+                : todoRepository.countByWeather(weather, startDate, endDate));
+    }
+
+    /**
+     * 특정 조건에 따라 Todo 항목을 전체 건수 없이 조회합니다.
+     * size + 1 건을 조회하여 다음 페이지 존재 여부만 판단하므로 COUNT 쿼리가 실행되지 않습니다.
+     *
+     * @param page       페이지 번호 (1부터 시작)
+     * @param size       페이지 크기
+     * @param weather    날씨 필터
+     * @param startDate  시작 날짜 (null 가능)
+     * @param endDate    종료 날짜 (null 가능)
+     * @return SliceResponse<TodoResponse> 조건에 맞는 Todo 항목과 다음 페이지 존재 여부
+     */
+    public SliceResponse<TodoResponse> getTodoSlice(
+            int page, int size, String weather, LocalDateTime startDate, LocalDateTime endDate) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+
+        List<TodoResponse> todos = todoRepository.findTodoResponsesByWeather(
+                weather, startDate, endDate, pageable.getOffset(), pageable.getPageSize() + 1
+        );
+
+        return SliceResponse.of(todos, page, size);
+    }
+
+    /**
+     * 커서 기반으로 Todo 항목을 조회합니다.
+     * OFFSET과 COUNT 쿼리 없이 직전 페이지의 마지막 항목 이후부터 조회하므로 페이지 깊이와 관계없이 비용이 일정합니다.
+     *
+     * @param cursor     직전 페이지 응답의 nextCursor (첫 페이지는 null 또는 빈 문자열)
+     * @param size       페이지 크기 (최대 100)
+     * @param weather    날씨 필터
+     * @param startDate  시작 날짜 (null 가능)
+     * @param endDate    종료 날짜 (null 가능)
+     * @return CursorResponse<TodoResponse> 조회된 Todo 목록과 다음 커서
+     */
+    public CursorResponse<TodoResponse> getTodosByCursor(
+            String cursor, int size, String weather, LocalDateTime startDate, LocalDateTime endDate) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<TodoResponse> todos = todoRepository.findTodoResponsesByWeatherWithCursor(
+                weather, startDate, endDate, Cursor.decode(cursor), pageSize + 1
+        );
+
+        return CursorResponse.of(todos, pageSize, todo -> new Cursor(todo.getModifiedAt(), todo.getId()));
+    }
+
+    /**
+     * 조건에 맞는 모든 Todo 항목을 NDJSON(한 줄에 하나의 JSON) 형식으로 출력 스트림에 씁니다.
+     * 결과를 스트리밍으로 읽으며 일정 건수마다 출력을 flush하고 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지합니다.
+     *
+     * @param weather    날씨 필터 (null 가능)
+     * @param startDate  시작 날짜 (null 가능)
+     * @param endDate    종료 날짜 (null 가능)
+     * @param out        결과를 쓸 출력 스트림
+     * @throws IOException 출력 중 오류가 발생한 경우
+     */
+    public void exportTodos(String weather, LocalDateTime startDate, LocalDateTime endDate, OutputStream out)
+            throws IOException {
+        try (Stream<Todo> todos = todoRepository.streamByWeather(weather, startDate, endDate)) {
+            Iterator<Todo> iterator = todos.iterator();
+            int count = 0;
+            while (iterator.hasNext()) {
+                out.write(objectMapper.writeValueAsBytes(toTodoResponse(iterator.next())));
+                out.write(NEWLINE);
+
+                if (++count % EXPORT_CLEAR_INTERVAL == 0) {
+                    out.flush();
+                    entityManager.clear();  // 이미 출력한 엔티티를 영속성 컨텍스트에서 제거
+                }
+            }
+        }
+        out.flush();
     }
 
     /**
      * 특정 Todo 항목을 ID로 조회합니다.
+     * 자주 조회되는 Todo는 캐시에서 바로 반환하며, 변경이 커밋되면 캐시가 무효화됩니다.
      *
      * @param todoId 조회할 Todo의 ID
      * @return TodoResponse 해당 Todo 항목의 정보
      * @throws InvalidRequestException Todo 항목이 존재하지 않을 경우 예외 발생
      */
     public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findByIdWithUser(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
-
-        User user = todo.getUser();
-
-        return new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        );
+        return todoDetailCache.get(todoId, id -> todoRepository.findTodoResponseById(id)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found")));
     }
 
     /**
@@ -133,20 +292,73 @@ public class TodoService {
      * @param startDate  시작 날짜 (null 가능)
      * @param endDate    종료 날짜 (null 가능)
      * @param nickname   검색할 사용자 별명 (null 가능)
+     * @param approximateTotal true이면 캐시된 근사 전체 건수를 사용하여 COUNT 쿼리를 생략
      * @return Page<TodoSearchResponse> 검색된 Todo 항목의 페이지
      */
     public Page<TodoSearchResponse> searchTodos(
-            AuthUser authUser, int page, int size, String title, LocalDateTime startDate, LocalDateTime endDate, String nickname) {
+            AuthUser authUser, int page, int size, String title, LocalDateTime startDate, LocalDateTime endDate, String nickname,
+            boolean approximateTotal) {
 
-        User user = User.fromAuthUser(authUser);
         Pageable pageable = PageRequest.of(page - 1, size); // Pageable 객체 생성
 
         // 레포지토리에서 쿼리 실행
-        Page<TodoSearchResponse> todos = todoRepository.searchTodosByTitleAndCreatedAtAndNickname(
-                title, startDate, endDate, nickname, pageable
+        List<TodoSearchResponse> todos = todoRepository.searchTodosByTitleAndCreatedAtAndNickname(
+                title, startDate, endDate, nickname, pageable.getOffset(), pageable.getPageSize()
+        );
+
+        // 전체 건수가 필요한 경우에만 계산 (제목/별명은 대소문자 구분 없이 같은 키로 캐시)
+        return PageableExecutionUtils.getPage(todos, pageable, () -> approximateTotal
+                ? todoCountCache.get(TodoCountCache.key("search", lowerCase(title), startDate, endDate, lowerCase(nickname)),
+                        () -> todoRepository.countTodosByTitleAndCreatedAtAndNickname(title, startDate, endDate, nickname))
+                : todoRepository.countTodosByTitleAndCreatedAtAndNickname(title, startDate, endDate, nickname));
+    }
+
+    /**
+     * 제목, 날짜, 별명에 따라 Todo 항목을 전체 건수 없이 검색합니다.
+     *
+     * @param page       페이지 번호 (1부터 시작)
+     * @param size       페이지 크기
+     * @param title      검색할 Todo의 제목 (null 가능)
+     * @param startDate  시작 날짜 (null 가능)
+     * @param endDate    종료 날짜 (null 가능)
+     * @param nickname   검색할 사용자 별명 (null 가능)
+     * @return SliceResponse<TodoSearchResponse> 검색된 Todo 항목과 다음 페이지 존재 여부
+     */
+    public SliceResponse<TodoSearchResponse> searchTodoSlice(
+            int page, int size, String title, LocalDateTime startDate, LocalDateTime endDate, String nickname) {
+
+        Pageable pageable = PageRequest.of(page - 1, size);
+
+        List<TodoSearchResponse> todos = todoRepository.searchTodosByTitleAndCreatedAtAndNickname(
+                title, startDate, endDate, nickname, pageable.getOffset(), pageable.getPageSize() + 1
         );
 
-        // TodoSearchResponse -> TodoResponse 변환
-        return todos;
+        return SliceResponse.of(todos, page, size);
+    }
+
+    private static String lowerCase(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Todo 엔티티를 응답 DTO로 변환합니다.
+     *
+     * @param todo 변환할 Todo 엔티티 (사용자 정보 포함)
+     * @return TodoResponse 변환된 응답 DTO
+     */
+    private TodoResponse toTodoResponse(Todo todo) {
+        User user = todo.getUser();
+
+        return new TodoResponse(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getContents(),
+                todo.getWeather(),
+                new UserResponse(user.getId(), user.getEmail()),
+                todo.getCreatedAt(),
+                todo.getModifiedAt(),
+                todo.getCommentCount(),
+                todo.getManagerCount()
+        );
     }
 }
@@ -0,0 +1,235 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.todo.dto.TodoPendingWeatherDto;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.todo.event.TodoWeatherPendingEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 날씨 없이 저장된 Todo(PENDING)의 날씨를 백그라운드에서 채우는 작업자입니다.
+ * 커밋된 Todo를 제한된 크기의 큐에 담고, 단일 작업 스레드가 최대 100건씩 묶어 날짜별 UPDATE 한 번으로 처리합니다.
+ * 날씨는 적재된 데이터에서만 찾으며 API 호출을 기다리지 않습니다. 처리 실패는 날짜별로 격리됩니다.
+ * 큐가 가득 찼거나 날씨 데이터가 아직 적재되지 않은 항목은 PENDING으로 남으며, 주기적인 재처리(sweep)에서 다시 큐에 담깁니다.
+ * 적재된 데이터에 생성 날짜가 없는 항목은 대체 값(weather.api.fallback)으로 채우거나, 없으면 UNAVAILABLE로 바꿔 재처리하지 않습니다.
+ */
+@Slf4j
+@Component
+public class TodoWeatherEnricher {
+
+    private static final int BATCH_SIZE = 100; // 한 번에 처리할 최대 Todo 수
+    private static final Duration SWEEP_GRACE = Duration.ofMinutes(1); // 이보다 최근에 생성된 Todo는 재처리 대상에서 제외
+
+    private final TodoRepository todoRepository;
+    private final WeatherClient weatherClient;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlockingQueue<TodoPendingWeatherDto> queue;
+    private final Set<Long> queuedIds = ConcurrentHashMap.newKeySet(); // 큐에 있거나 처리 중인 Todo ID (재처리 시 중복 방지)
+    private final AtomicLong droppedCount = new AtomicLong(); // 큐가 가득 차 재처리로 넘어간 건수
+    private volatile LocalDateTime oldestPendingCreatedAt; // 마지막 재처리 시점의 가장 오래된 PENDING Todo 생성 시각 (없으면 null)
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "todo-weather-enricher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TodoWeatherEnricher(
+            TodoRepository todoRepository,
+            WeatherClient weatherClient,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${todo.weather-enrich.queue-capacity:10000}") int queueCapacity
+    ) {
+        this.todoRepository = todoRepository;
+        this.weatherClient = weatherClient;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker.execute(this::run);
+    }
+
+    @PreDestroy
+    public void stop() {
+        worker.shutdownNow();  // 남은 항목은 PENDING으로 남아 다음 기동 시 재처리됨
+    }
+
+    /**
+     * 날씨 없이 저장된 Todo가 커밋되면 큐에 담습니다.
+     *
+     * @param event 날씨 조회 대기 이벤트
+     */
+    @TransactionalEventListener
+    public void onWeatherPending(TodoWeatherPendingEvent event) {
+        enqueue(new TodoPendingWeatherDto(event.getTodoId(), event.getCreatedAt()));
+    }
+
+    /**
+     * 큐에서 누락되었거나 처리에 실패한 PENDING Todo를 주기적으로 다시 큐에 담습니다.
+     * 큐의 남은 공간만큼만 조회하며, 이미 큐에 있거나 처리 중인 항목은 건너뜁니다.
+     * 백필 지연 지표에 사용할 가장 오래된 PENDING Todo의 생성 시각도 이때 함께 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${todo.weather-enrich.sweep-interval:PT1M}")
+    public void sweep() {
+        oldestPendingCreatedAt = todoRepository.findOldestPendingWeatherCreatedAt();
+
+        int capacity = Math.min(queue.remainingCapacity(), BATCH_SIZE * 10);
+        if (capacity == 0) {
+            return;
+        }
+
+        List<TodoPendingWeatherDto> pending = todoRepository.findPendingWeather(
+                LocalDateTime.now().minus(SWEEP_GRACE), PageRequest.of(0, capacity));
+        int enqueued = 0;
+        for (TodoPendingWeatherDto todo : pending) {
+            if (enqueue(todo)) {
+                enqueued++;
+            }
+        }
+
+        if (enqueued > 0) {
+            log.info("날씨 대기 Todo 재처리 - 건수: {}", enqueued);
+        }
+    }
+
+    /**
+     * 큐에 대기 중인 Todo 수를 반환합니다.
+     *
+     * @return int 큐 대기 건수
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * 큐가 가득 차 재처리로 넘어간 누적 건수를 반환합니다.
+     *
+     * @return long 누적 건수
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * 가장 오래된 PENDING Todo가 생성된 뒤 지난 시간(초)을 반환합니다.
+     * 마지막 재처리(sweep)에서 조회한 생성 시각을 기준으로 계산하므로 DB를 조회하지 않으며,
+     * 그 사이에 처리된 항목은 다음 재처리 주기(todo.weather-enrich.sweep-interval)에 반영됩니다.
+     *
+     * @return long 백필 지연 시간 (대기 중인 Todo가 없으면 0)
+     */
+    public long getBackfillLagSeconds() {
+        LocalDateTime oldest = oldestPendingCreatedAt;
+        return oldest == null ? 0L : Math.max(0L, Duration.between(oldest, LocalDateTime.now()).getSeconds());
+    }
+
+    /**
+     * 큐에 없는 Todo만 큐에 담습니다.
+     *
+     * @param todo 날씨를 채울 Todo
+     * @return boolean 새로 큐에 담았는지 여부
+     */
+    private boolean enqueue(TodoPendingWeatherDto todo) {
+        if (!queuedIds.add(todo.getId())) {
+            return false;  // 이미 큐에 있거나 처리 중
+        }
+        if (!queue.offer(todo)) {
+            queuedIds.remove(todo.getId());
+            droppedCount.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 큐에서 항목을 꺼내 최대 BATCH_SIZE건씩 처리하는 작업 루프입니다.
+     */
+    private void run() {
+        List<TodoPendingWeatherDto> batch = new ArrayList<>(BATCH_SIZE);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                resolve(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.warn("Todo 날씨 채우기 실패 - 건수: {} (다음 재처리에서 다시 시도)", batch.size(), e);
+            } finally {
+                batch.forEach(todo -> queuedIds.remove(todo.getId()));
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 생성 날짜별로 날씨를 한 번씩 찾아 UPDATE 한 번으로 채웁니다.
+     * 한 날짜의 처리에 실패해도 다른 날짜는 계속 처리하며, 실패한 날짜의 항목은 PENDING으로 남아 재처리됩니다.
+     *
+     * @param batch 처리할 Todo 목록
+     */
+    void resolve(List<TodoPendingWeatherDto> batch) {
+        Map<MonthDay, List<Long>> idsByDate = new HashMap<>();
+        for (TodoPendingWeatherDto todo : batch) {
+            idsByDate.computeIfAbsent(MonthDay.from(todo.getCreatedAt()), date -> new ArrayList<>()).add(todo.getId());
+        }
+
+        if (!weatherClient.isLoaded()) {
+            // 날씨 데이터가 아직 없으면 적재만 요청하고 기다리지 않음 (다음 재처리에서 다시 시도)
+            weatherClient.refreshAsync();
+            log.debug("날씨 데이터가 적재되지 않아 다음 재처리로 미룹니다. - 건수: {}", batch.size());
+            return;
+        }
+
+        for (Map.Entry<MonthDay, List<Long>> entry : idsByDate.entrySet()) {
+            MonthDay date = entry.getKey();
+            List<Long> ids = entry.getValue();
+            try {
+                Optional<String> weather = weatherClient.findWeather(date).or(weatherClient::getFallbackWeather);
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (weather.isPresent()) {
+                        todoRepository.resolvePendingWeather(ids, weather.get());
+                    } else {
+                        todoRepository.markWeatherUnavailable(ids);  // 적재된 데이터에 없는 날짜는 다시 조회해도 채울 수 없음
+                    }
+                    // 커밋 후 상세 조회 캐시 무효화
+                    ids.forEach(id -> eventPublisher.publishEvent(new TodoChangedEvent(id, TodoChangedEvent.Type.UPDATED)));
+                });
+                if (weather.isEmpty()) {
+                    log.warn("날씨 데이터에 {} 날짜가 없어 날씨를 채우지 않습니다. - 건수: {}", date, ids.size());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Todo 날씨 채우기 실패 - 날짜: {}, 건수: {} (다음 재처리에서 다시 시도) - {}", date, ids.size(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.user.dto;
+
+import lombok.Getter;
+
+@Getter
+public class UserNicknameDto {
+
+    private final Long id;
+    private final String nickname;
+
+    public UserNicknameDto(Long id, String nickname) {
+        this.id = id;
+        this.nickname = nickname;
+    }
+}
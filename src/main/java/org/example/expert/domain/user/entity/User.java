@@ -3,6 +3,7 @@ package org.example.expert.domain.user.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.user.enums.UserRole;
@@ -10,10 +11,15 @@ import org.example.expert.domain.user.enums.UserRole;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_modified_at", columnList = "modified_at") // 닉네임 색인 동기화 및 미반영 사용자 검색용
+})
+@EntityListeners(UserEntityListener.class)
 public class User extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "users_seq", allocationSize = 50) // pooled 방식으로 50개씩 ID 선할당
     private Long id;
     @Column(unique = true)
     private String email;
@@ -22,6 +28,9 @@ public class User extends Timestamped {
     @Enumerated(EnumType.STRING)
     private UserRole userRole;
 
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long tokenVersion; // 토큰 버전 (모든 토큰을 폐기할 때 증가하며, 발급되는 토큰에 포함됨)
 
     public User(String email, String password, String nickname, UserRole userRole) {
         this.email = email;
@@ -56,6 +65,10 @@ public class User extends Timestamped {
         this.userRole = userRole;
     }
 
+    public void increaseTokenVersion() {
+        this.tokenVersion++;
+    }
+
     public AuthUser toAuthUser() {
         return new AuthUser(
                 this.id,
@@ -0,0 +1,32 @@
+package org.example.expert.domain.user.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.example.expert.domain.user.event.UserChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * User 엔티티의 저장/변경/삭제를 애플리케이션 이벤트로 발행하는 JPA 엔티티 리스너입니다.
+ * Hibernate가 Spring 빈 컨테이너를 통해 생성하므로 생성자 주입을 사용할 수 있습니다.
+ * 회원가입, 역할 변경 등 어떤 경로로 변경되더라도 이벤트가 발행되어 메모리 색인/캐시가 오래된 값을 갖지 않습니다.
+ */
+public class UserEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UserEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getNickname(), false));
+    }
+
+    @PostRemove
+    public void onRemoved(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), null, true));
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.user.event;
+
+import lombok.Getter;
+
+@Getter
+public class UserChangedEvent {
+
+    private final Long userId;  // 변경된 사용자 ID
+    private final String nickname;  // 변경 후 닉네임 (삭제된 경우 null)
+    private final boolean deleted;  // 삭제 여부
+
+    public UserChangedEvent(Long userId, String nickname, boolean deleted) {
+        this.userId = userId;
+        this.nickname = nickname;
+        this.deleted = deleted;
+    }
+}
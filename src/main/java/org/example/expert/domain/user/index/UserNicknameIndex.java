@@ -0,0 +1,126 @@
+package org.example.expert.domain.user.index;
+
+import org.example.expert.domain.common.index.TrigramIndex;
+import org.example.expert.domain.user.event.UserChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class UserNicknameIndex {
+
+    private static final int MAX_USER_IDS = 1_000; // IN 조건으로 전달할 최대 사용자 수
+
+    private final TrigramIndex index = new TrigramIndex();
+    private final Map<Long, String> nicknames = new ConcurrentHashMap<>(); // 사용자 ID -> 소문자 닉네임
+    private volatile LocalDateTime syncedBefore; // 이 시각 이전에 변경된 사용자는 모두 색인에 반영됨 (적재 전이면 null)
+
+    /**
+     * 사용자의 닉네임을 색인에 추가하거나 변경합니다.
+     *
+     * @param userId   사용자 ID
+     * @param nickname 닉네임 (null이면 색인에서 제거)
+     */
+    public synchronized void put(long userId, String nickname) {
+        String previous = nickname == null
+                ? nicknames.remove(userId)
+                : nicknames.put(userId, nickname.toLowerCase(Locale.ROOT));
+        if (previous != null) {
+            index.remove(userId, previous);
+        }
+        if (nickname != null) {
+            index.add(userId, nickname);
+        }
+    }
+
+    /**
+     * 사용자를 색인에서 제거합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void remove(long userId) {
+        put(userId, null);
+    }
+
+    /**
+     * 주어진 시각 이전에 변경된 사용자가 모두 색인에 반영되었음을 표시합니다.
+     * 처음 호출된 이후부터 검색에 색인이 사용됩니다.
+     *
+     * @param syncedBefore 색인 반영이 보장되는 변경 시각의 상한
+     */
+    public void markSynced(LocalDateTime syncedBefore) {
+        this.syncedBefore = syncedBefore;
+    }
+
+    /**
+     * 색인 반영이 보장되는 변경 시각의 상한을 조회합니다.
+     * 이 시각 이후에 다른 노드에서 변경된 사용자는 색인과 다를 수 있으므로, 검색 시 DB 조건으로 함께 확인해야 합니다.
+     * 사용자 ID 조회보다 먼저 읽어야 조회 시점의 색인 상태를 모두 포함합니다.
+     *
+     * @return LocalDateTime 색인 반영 상한 시각 (적재 전이면 null)
+     */
+    public LocalDateTime getSyncedBefore() {
+        return syncedBefore;
+    }
+
+    /**
+     * 사용자 저장/변경/삭제가 커밋되면 색인에 반영합니다.
+     *
+     * @param event 사용자 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.getUserId());
+        } else {
+            put(event.getUserId(), event.getNickname());
+        }
+    }
+
+    /**
+     * 닉네임에 검색어를 포함하는 사용자 ID를 조회합니다.
+     * trigram 색인으로 후보를 좁힌 뒤 메모리의 닉네임으로 검증하므로 이 노드의 색인 기준으로는 정확한 집합이지만,
+     * {@link #getSyncedBefore()} 이후 다른 노드에서 변경된 사용자는 반영되지 않았을 수 있습니다.
+     *
+     * @param nickname 닉네임 검색어 (대소문자 구분 없음)
+     * @return List<Long> 일치하는 사용자 ID 목록, 색인을 사용할 수 없거나 일치하는 사용자가 너무 많으면 null
+     */
+    public List<Long> findUserIds(String nickname) {
+        if (syncedBefore == null) {
+            return null;
+        }
+
+        String query = nickname.toLowerCase(Locale.ROOT);
+        long[] candidates = index.search(nickname);
+
+        List<Long> userIds = new ArrayList<>();
+        if (candidates == null) {
+            // 3자 미만 검색어는 trigram으로 좁힐 수 없으므로 메모리의 닉네임을 직접 확인
+            for (Map.Entry<Long, String> entry : nicknames.entrySet()) {
+                if (entry.getValue().contains(query) && !add(userIds, entry.getKey())) {
+                    return null;
+                }
+            }
+            return userIds;
+        }
+
+        for (long candidate : candidates) {
+            String candidateNickname = nicknames.get(candidate);
+            if (candidateNickname != null && candidateNickname.contains(query) && !add(userIds, candidate)) {
+                return null;
+            }
+        }
+        return userIds;
+    }
+
+    private static boolean add(List<Long> userIds, long userId) {
+        userIds.add(userId);
+        return userIds.size() <= MAX_USER_IDS;
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.expert.domain.user.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.dto.UserNicknameDto;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserNicknameIndexLoader {
+
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1); // 늦게 커밋된 다른 노드의 변경을 놓치지 않도록 겹쳐 조회
+
+    private final UserRepository userRepository;
+    private final UserNicknameIndex userNicknameIndex;
+
+    /**
+     * 애플리케이션 시작 시 전체 사용자 닉네임을 스트리밍으로 읽어 닉네임 색인을 구성합니다.
+     * 적재 이후 이 노드의 변경은 UserChangedEvent로, 다른 노드의 변경은 {@link #sync()}로 반영됩니다.
+     */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        LocalDateTime syncStartedAt = LocalDateTime.now();
+        long startedAt = System.currentTimeMillis();
+        AtomicLong count = new AtomicLong();
+
+        try (Stream<UserNicknameDto> users = userRepository.streamAllNicknames()) {
+            users.forEach(user -> {
+                userNicknameIndex.put(user.getId(), user.getNickname());
+                count.incrementAndGet();
+            });
+        }
+        userNicknameIndex.markSynced(syncStartedAt.minus(SYNC_OVERLAP));
+
+        log.info("사용자 닉네임 색인 적재 완료 - 건수: {}, 소요 시간: {}ms", count.get(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 마지막 동기화 이후 변경된 사용자의 닉네임을 DB에서 읽어 색인에 반영합니다.
+     * 다른 노드에서 저장/변경된 사용자를 반영하기 위한 것입니다.
+     * 다른 노드에서 삭제된 사용자는 색인에 남지만, 검색 시 DB 조건으로 걸러지므로 결과에는 영향이 없습니다.
+     */
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${user.nickname-index.sync-interval:PT5S}", initialDelayString = "${user.nickname-index.sync-interval:PT5S}")
+    public void sync() {
+        LocalDateTime since = userNicknameIndex.getSyncedBefore();
+        if (since == null) {
+            return;  // 전체 적재 전
+        }
+
+        LocalDateTime syncStartedAt = LocalDateTime.now();
+        try (Stream<UserNicknameDto> users = userRepository.streamNicknamesModifiedSince(since)) {
+            users.forEach(user -> userNicknameIndex.put(user.getId(), user.getNickname()));
+        }
+        userNicknameIndex.markSynced(syncStartedAt.minus(SYNC_OVERLAP));
+    }
+}
@@ -1,9 +1,19 @@
 package org.example.expert.domain.user.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.user.dto.UserNicknameDto;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -22,4 +32,38 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 이메일에 해당하는 사용자가 존재하면 true, 존재하지 않으면 false 반환
      */
     boolean existsByEmail(String email);
+
+    /**
+     * 전체 사용자의 ID와 닉네임을 ID 순으로 스트리밍 조회합니다.
+     * 닉네임 색인 적재용이며, 호출하는 쪽의 트랜잭션 안에서 사용한 뒤 스트림을 닫아야 합니다.
+     *
+     * @return Stream<UserNicknameDto> ID 오름차순의 ID/닉네임 스트림
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new org.example.expert.domain.user.dto.UserNicknameDto(u.id, u.nickname) FROM User u ORDER BY u.id")
+    Stream<UserNicknameDto> streamAllNicknames();
+
+    /**
+     * 주어진 시각 이후에 변경된 사용자의 ID와 닉네임을 스트리밍 조회합니다.
+     * 닉네임 색인의 주기적 동기화용이며, 호출하는 쪽의 트랜잭션 안에서 사용한 뒤 스트림을 닫아야 합니다.
+     *
+     * @param since 조회할 변경 시각의 하한 (포함)
+     * @return Stream<UserNicknameDto> ID 오름차순의 ID/닉네임 스트림
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new org.example.expert.domain.user.dto.UserNicknameDto(u.id, u.nickname) FROM User u WHERE u.modifiedAt >= :since ORDER BY u.id")
+    Stream<UserNicknameDto> streamNicknamesModifiedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 비밀번호 해시를 교체합니다. 조회 이후 비밀번호가 변경되었으면 교체하지 않습니다.
+     *
+     * @param id 사용자 ID
+     * @param oldPassword 조회 시점의 비밀번호 해시
+     * @param newPassword 새 비밀번호 해시
+     * @return 변경된 행 수 (0 또는 1)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :id AND u.password = :oldPassword")
+    int updatePassword(@Param("id") Long id, @Param("oldPassword") String oldPassword, @Param("newPassword") String newPassword);
 }
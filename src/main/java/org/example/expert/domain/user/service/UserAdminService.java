@@ -1,7 +1,9 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.auth.revocation.TokenRevocationRegistry;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.log.AuditLogWriter;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -14,6 +16,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserAdminService {
 
     private final UserRepository userRepository;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final AuditLogWriter auditLogWriter;
 
     /**
      * 사용자의 역할을 변경하는 메서드입니다.
@@ -29,5 +33,10 @@ public class UserAdminService {
 
         // 요청된 역할로 사용자 역할을 업데이트합니다.
         user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
+
+        // 이전 역할이 담긴 토큰을 모두 폐기합니다. (다시 로그인해야 새 역할이 적용됨)
+        tokenRevocationRegistry.revokeAllTokens(user);
+
+        auditLogWriter.record("USER_ROLE_CHANGE", "사용자 역할 변경: " + userId + " -> " + user.getUserRole());
     }
 }
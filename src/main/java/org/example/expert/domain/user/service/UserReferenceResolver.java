@@ -0,0 +1,74 @@
+package org.example.expert.domain.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.event.UserChangedEvent;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 인증된 사용자(AuthUser)를 영속성 컨텍스트가 관리하는 User 참조(프록시)로 변환합니다.
+ *
+ * 참조는 ID만 가진 프록시이므로 SELECT 없이 연관관계 설정에 사용할 수 있습니다.
+ * 존재가 확인된 사용자 ID는 노드별 캐시에 보관하므로, 처음 쓰기 요청에서만 존재 여부를 조회합니다.
+ * 프록시의 ID 외 필드에 접근하면 조회가 발생하므로, 응답에는 AuthUser의 값을 사용해야 합니다.
+ */
+@Component
+public class UserReferenceResolver {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, Boolean> knownUserIds; // 존재가 확인된 사용자 ID
+
+    public UserReferenceResolver(
+            UserRepository userRepository,
+            @Value("${user.reference-cache.max-size:10000}") long maxSize,
+            @Value("${user.reference-cache.ttl-seconds:600}") long ttlSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.knownUserIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))  // 다른 노드에서 삭제된 사용자 대비
+                .build();
+    }
+
+    /**
+     * 인증된 사용자의 User 참조를 반환합니다.
+     *
+     * @param authUser 인증된 사용자 정보
+     * @return User 사용자 참조 (ID 외 필드는 접근 시 조회됨)
+     * @throws AuthException 사용자 ID가 없거나 존재하지 않는 사용자인 경우
+     */
+    public User resolve(AuthUser authUser) {
+        Long userId = authUser == null ? null : authUser.getId();
+        if (userId == null) {
+            throw new AuthException("사용자 인증 정보가 유효하지 않습니다.");
+        }
+
+        if (knownUserIds.getIfPresent(userId) == null) {
+            if (!userRepository.existsById(userId)) {
+                throw new AuthException("존재하지 않는 사용자입니다.");
+            }
+            knownUserIds.put(userId, Boolean.TRUE);
+        }
+        return userRepository.getReferenceById(userId);
+    }
+
+    /**
+     * 사용자가 삭제되어 커밋되면 캐시에서 제거합니다.
+     *
+     * @param event 사용자 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.isDeleted()) {
+            knownUserIds.invalidate(event.getUserId());
+        }
+    }
+}
@@ -1,13 +1,58 @@
 package org.example.expert.healthCheck.Controller;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.manager.log.AuditLogWriter;
+import org.example.expert.domain.todo.cache.TodoDetailCache;
+import org.example.expert.domain.todo.service.TodoWeatherEnricher;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @RestController
+@RequiredArgsConstructor
 public class HealthCheckController {
 
+    private final TodoDetailCache todoDetailCache;
+    private final TodoWeatherEnricher todoWeatherEnricher;
+    private final AuditLogWriter auditLogWriter;
+
     @GetMapping("/health")
     public String healthCheck() {
         return "OK"; // 서버가 정상적으로 작동하면 "OK"를 반환
     }
-}
\ No newline at end of file
+
+    @GetMapping("/health/cache")
+    public Map<String, Object> cacheStats() {
+        CacheStats stats = todoDetailCache.stats(); // Todo 단건 조회 캐시의 누적 통계
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", todoDetailCache.size());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        return result;
+    }
+
+    @GetMapping("/health/weather-enrichment")
+    public Map<String, Object> weatherEnrichmentStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("queueDepth", todoWeatherEnricher.getQueueDepth()); // 날씨 채우기 큐 대기 건수
+        result.put("droppedCount", todoWeatherEnricher.getDroppedCount()); // 큐가 가득 차 재처리로 넘어간 누적 건수
+        result.put("backfillLagSeconds", todoWeatherEnricher.getBackfillLagSeconds()); // 가장 오래된 PENDING Todo의 대기 시간
+        return result;
+    }
+
+    @GetMapping("/health/audit-log")
+    public Map<String, Object> auditLogStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("bufferDepth", auditLogWriter.getBufferDepth()); // 저장 대기 중인 감사 로그 수
+        result.put("droppedCount", auditLogWriter.getDroppedCount()); // 버퍼가 가득 차 버린 누적 건수
+        result.put("failedCount", auditLogWriter.getFailedCount()); // 저장에 실패한 누적 건수
+        result.put("writtenCount", auditLogWriter.getWrittenCount()); // 저장한 누적 건수
+        return result;
+    }
+}
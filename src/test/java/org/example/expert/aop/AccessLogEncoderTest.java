@@ -0,0 +1,54 @@
+package org.example.expert.aop;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessLogEncoderTest {
+
+    private final AccessLogEncoder encoder = new AccessLogEncoder(ZoneOffset.UTC);
+
+    private static AccessLogEvent event(long timestampMillis, long userId, Class<?> errorType) {
+        AccessLogEvent event = new AccessLogEvent();
+        event.timestampMillis = timestampMillis;
+        event.userId = userId;
+        event.handler = "TodoController.getTodo";
+        event.httpMethod = "GET";
+        event.requestUri = "/todos/1";
+        event.elapsedNanos = 1_234_567L;
+        event.errorType = errorType;
+        return event;
+    }
+
+    @Test
+    void 접근_로그를_한_줄로_기록한다() {
+        // given
+        long timestamp = LocalDateTime.of(2025, 1, 15, 9, 30, 5).toInstant(ZoneOffset.UTC).toEpochMilli() + 7;
+        StringBuilder out = new StringBuilder();
+
+        // when
+        encoder.encode(event(timestamp, 1L, null), out);
+
+        // then
+        assertThat(out.toString())
+                .isEqualTo("2025-01-15T09:30:05.007 user=1 GET /todos/1 handler=TodoController.getTodo took=1234us result=OK");
+    }
+
+    @Test
+    void 인증되지_않은_요청과_예외를_기록한다() {
+        // given
+        long timestamp = LocalDateTime.of(2025, 1, 15, 9, 30, 5).toInstant(ZoneOffset.UTC).toEpochMilli() + 120;
+        StringBuilder out = new StringBuilder();
+
+        // when
+        encoder.encode(event(timestamp, -1L, InvalidRequestException.class), out);
+
+        // then
+        assertThat(out.toString())
+                .isEqualTo("2025-01-15T09:30:05.120 user=- GET /todos/1 handler=TodoController.getTodo took=1234us result=InvalidRequestException");
+    }
+}
@@ -0,0 +1,204 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.MonthDay;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeatherClientTest {
+
+    private static final Clock JAN_15 = Clock.fixed(Instant.parse("2025-01-15T03:00:00Z"), ZoneOffset.UTC);
+    private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicReference<String> body = new AtomicReference<>();
+    private final AtomicInteger failuresBeforeSuccess = new AtomicInteger(); // 앞선 요청 몇 건을 500으로 응답할지
+    private final AtomicInteger delayMillis = new AtomicInteger(); // 응답 지연 시간
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        body.set("[{\"date\":\"01-14\",\"weather\":\"Cloudy\"},{\"date\":\"01-15\",\"weather\":\"Sunny\"}]");
+
+        // 날씨 API를 대신하는 로컬 스텁 서버 (지연/오류 응답을 설정할 수 있음)
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/f-api/weather.json", exchange -> {
+            requestCount.incrementAndGet();
+            try {
+                Thread.sleep(delayMillis.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            int responseStatus = failuresBeforeSuccess.getAndDecrement() > 0 ? 500 : status.get();
+            byte[] bytes = body.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(responseStatus, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    private WeatherClient createClient(int maxAttempts, Duration requestTimeout, int failureThreshold) {
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        return new WeatherClient(OBJECT_MAPPER, baseUrl, Duration.ofSeconds(1), requestTimeout,
+                maxAttempts, Duration.ofMillis(10), failureThreshold, Duration.ofMinutes(1), "", JAN_15, new SimpleMeterRegistry());
+    }
+
+    private WeatherClient createClient() {
+        return createClient(1, Duration.ofSeconds(2), 5);
+    }
+
+    @Test
+    void 적재된_데이터에서_오늘_날씨를_API_호출_없이_반환한다() {
+        // given
+        WeatherClient client = createClient();
+        client.refreshAsync().join();
+
+        // when & then
+        assertThat(client.findTodayWeather()).contains("Sunny");
+        assertThat(client.findTodayWeather()).contains("Sunny");
+        assertThat(client.findWeather(MonthDay.of(1, 14))).contains("Cloudy");
+        assertThat(requestCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 적재_전이면_조회는_기다리지_않고_진행_중인_적재를_재사용한다() {
+        // given
+        delayMillis.set(500);
+        WeatherClient client = createClient();
+        CompletableFuture<Boolean> loading = client.refreshAsync();
+
+        // when & then
+        assertThat(client.findTodayWeather()).isEmpty();
+        assertThat(client.isLoaded()).isFalse();
+
+        assertThat(client.refreshAsync()).isSameAs(loading);  // 진행 중인 적재를 재사용
+        assertThat(loading.join()).isTrue();
+        assertThat(client.findTodayWeather()).contains("Sunny");
+        assertThat(requestCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 갱신에_실패하면_마지막으로_성공한_데이터를_유지한다() {
+        // given
+        WeatherClient client = createClient();
+        client.refreshAsync().join();
+        status.set(500);
+
+        // when
+        boolean refreshed = client.refreshAsync().join();
+
+        // then
+        assertThat(refreshed).isFalse();
+        assertThat(requestCount.get()).isEqualTo(2);
+        assertThat(client.findTodayWeather()).contains("Sunny");
+    }
+
+    @Test
+    void 오늘_날짜_데이터가_없으면_적재된_상태에서도_빈_값을_반환한다() {
+        // given
+        body.set("[{\"date\":\"01-14\",\"weather\":\"Cloudy\"}]");
+        WeatherClient client = createClient();
+        client.refreshAsync().join();
+
+        // when & then
+        assertThat(client.isLoaded()).isTrue();
+        assertThat(client.findTodayWeather()).isEmpty();
+    }
+
+    @Test
+    void 일시적인_오류는_재시도하여_적재한다() {
+        // given
+        failuresBeforeSuccess.set(2);
+        WeatherClient client = createClient(3, Duration.ofSeconds(2), 5);
+
+        // when
+        boolean refreshed = client.refreshAsync().join();
+
+        // then
+        assertThat(refreshed).isTrue();
+        assertThat(requestCount.get()).isEqualTo(3);
+        assertThat(client.findTodayWeather()).contains("Sunny");
+    }
+
+    @Test
+    void 응답이_느리면_요청_시간_제한으로_빠르게_실패한다() {
+        // given
+        delayMillis.set(3_000);
+        WeatherClient client = createClient(1, Duration.ofMillis(200), 5);
+
+        // when
+        long startedAt = System.nanoTime();
+        boolean refreshed = client.refreshAsync().join();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // then
+        assertThat(refreshed).isFalse();
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void 연속_실패가_기준에_도달하면_서킷이_열려_호출하지_않는다() {
+        // given
+        status.set(500);
+        WeatherClient client = createClient(1, Duration.ofSeconds(2), 2);
+        client.refreshAsync().join();
+        client.refreshAsync().join();
+
+        // when
+        boolean refreshed = client.refreshAsync().join();
+
+        // then
+        assertThat(refreshed).isFalse();
+        assertThat(requestCount.get()).isEqualTo(2);  // 세 번째 갱신은 API를 호출하지 않음
+    }
+
+    @Test
+    void 데이터가_없고_대체_값이_설정되어_있으면_대체_값을_사용할_수_있다() {
+        // given
+        status.set(500);
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        WeatherClient client = new WeatherClient(OBJECT_MAPPER, baseUrl, Duration.ofSeconds(1), Duration.ofSeconds(2),
+                1, Duration.ofMillis(10), 5, Duration.ofMinutes(1), "Unknown", JAN_15, new SimpleMeterRegistry());
+
+        // when
+        boolean refreshed = client.refreshAsync().join();
+
+        // then
+        assertThat(refreshed).isFalse();
+        assertThat(client.findTodayWeather()).isEmpty();
+        assertThat(client.getFallbackWeather()).contains("Unknown");
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(new byte[32]));
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", 100L);
+        ReflectionTestUtils.setField(jwtUtil, "meterRegistry", new SimpleMeterRegistry());
+        jwtUtil.init();
+    }
+
+    private String createToken() {
+        return jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", "nickname", UserRole.USER, 0L));
+    }
+
+    @Test
+    void 토큰을_검증하여_인증_객체를_생성한다() {
+        // given
+        String token = createToken();
+
+        // when
+        Optional<JwtUtil.VerifiedToken> verified = jwtUtil.verify(token);
+
+        // then
+        assertThat(verified).isPresent();
+        assertThat(verified.get().jti()).isNotBlank();
+        AuthUser authUser = (AuthUser) verified.get().toAuthentication().getPrincipal();
+        assertThat(authUser.getId()).isEqualTo(1L);
+        assertThat(authUser.getEmail()).isEqualTo("user@example.com");
+        assertThat(authUser.getUserRole()).isEqualTo(UserRole.USER);
+    }
+
+    @Test
+    void 같은_토큰으로_다시_요청하면_캐시된_검증_결과를_반환한다() {
+        // given
+        String token = createToken();
+        JwtUtil.VerifiedToken first = jwtUtil.verify(token).orElseThrow();
+
+        // when
+        JwtUtil.VerifiedToken second = jwtUtil.verify(token).orElseThrow();
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void 인증_객체는_요청마다_새로_만들어_요청_간에_공유하지_않는다() {
+        // given
+        String token = createToken();
+        Authentication first = jwtUtil.verify(token).orElseThrow().toAuthentication();
+
+        // when
+        first.setAuthenticated(false);  // 한 요청에서 인증 객체를 변경
+        Authentication second = jwtUtil.verify(token).orElseThrow().toAuthentication();
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.isAuthenticated()).isTrue();
+        assertThat(second.getPrincipal()).isSameAs(first.getPrincipal());  // 변경할 수 없는 사용자 정보만 공유
+    }
+
+    @Test
+    void 서명이_변조된_토큰은_인증하지_않는다() {
+        // given
+        String token = createToken();
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // when & then
+        assertThat(jwtUtil.verify(tampered)).isEmpty();
+        assertThat(jwtUtil.validateToken(tampered)).isFalse();
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsConfigTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        registry.config().meterFilter(new MetricsConfig().applicationTimerPercentiles());
+    }
+
+    private double lowestBucketNanos(String name) {
+        Timer timer = Timer.builder(name).register(registry);
+        timer.record(Duration.ofNanos(5_000));
+        CountAtBucket[] buckets = timer.takeSnapshot().histogramCounts();
+        return buckets[0].bucket(TimeUnit.NANOSECONDS);
+    }
+
+    @Test
+    void 마이크로초_단위_타이머는_1ms_미만의_버킷을_가진다() {
+        // when & then
+        assertThat(lowestBucketNanos("app.jwt.verify")).isLessThan(Duration.ofNanos(5_000).toNanos());
+        assertThat(lowestBucketNanos("app.controller.duration")).isLessThan(Duration.ofMillis(1).toNanos());
+    }
+
+    @Test
+    void 그_외_타이머는_1ms부터_버킷을_가진다() {
+        // when & then
+        assertThat(lowestBucketNanos("app.password.hash")).isGreaterThanOrEqualTo(Duration.ofMillis(1).toNanos());
+    }
+}
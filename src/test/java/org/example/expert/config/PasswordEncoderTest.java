@@ -0,0 +1,73 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordEncoderTest {
+
+    private PasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    void 인코딩한_비밀번호를_검증한다() {
+        // given
+        passwordEncoder = new PasswordEncoder(4, 1, 4, Duration.ofSeconds(5), new SimpleMeterRegistry());
+
+        // when
+        String encoded = passwordEncoder.encode("password");
+
+        // then
+        assertThat(passwordEncoder.matches("password", encoded)).isTrue();
+        assertThat(passwordEncoder.matches("wrong", encoded)).isFalse();
+    }
+
+    @Test
+    void 저장된_해시의_비용이_설정과_다르면_갱신이_필요하다() {
+        // given
+        PasswordEncoder oldEncoder = new PasswordEncoder(4, 1, 4, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        String oldHash = oldEncoder.encode("password");
+        oldEncoder.shutdown();
+        passwordEncoder = new PasswordEncoder(5, 1, 4, Duration.ofSeconds(5), new SimpleMeterRegistry());
+
+        // when & then
+        assertThat(passwordEncoder.needsUpgrade(oldHash)).isTrue();
+        assertThat(passwordEncoder.needsUpgrade(passwordEncoder.encode("password"))).isFalse();
+        assertThat(passwordEncoder.matches("password", oldHash)).isTrue();
+    }
+
+    @Test
+    void 해시_풀이_포화되면_기다리지_않고_거절한다() throws InterruptedException {
+        // given
+        passwordEncoder = new PasswordEncoder(4, 1, 1, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blocker = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        passwordEncoder.executor.execute(blocker); // 작업 스레드 점유
+        passwordEncoder.executor.execute(blocker); // 대기열 점유
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> passwordEncoder.encode("password"))
+                    .isInstanceOf(ServiceUnavailableException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+}
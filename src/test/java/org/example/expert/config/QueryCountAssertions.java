@@ -0,0 +1,31 @@
+package org.example.expert.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실행된 SQL 문장 수를 검증하는 테스트 도구입니다.
+ * PersistenceConfig가 등록된 테스트에서 사용하며, 검증 전에 영속성 컨텍스트를 flush/clear 해야 정확합니다.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    /**
+     * 작업을 실행하고 현재 스레드에서 실행된 SQL 문장 수가 기대값과 같은지 검증합니다.
+     *
+     * @param expected 기대하는 SQL 문장 수
+     * @param action 검증할 작업
+     */
+    public static void assertQueryCount(int expected, Runnable action) {
+        QueryCounter.start();
+        try {
+            action.run();
+        } finally {
+            QueryCounter.stop();
+        }
+        assertThat(QueryCounter.getStatementCount())
+                .as("실행된 SQL 문장 수")
+                .isEqualTo(expected);
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.expert.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class QueryCountFilterTest {
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new QueryController())
+                .addInterceptors(new HandlerInterceptor() {
+                    @Override
+                    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+                        QueryCounter.recordStatement();  // 컨트롤러 반환 이후(뷰/응답 처리 단계)의 문장
+                    }
+                })
+                .addFilters(new QueryCountFilter(10, Duration.ofMillis(500)))
+                .build();
+    }
+
+    @Test
+    void 요청_처리_전체에서_실행된_문장을_집계한다() throws Exception {
+        // when
+        mockMvc.perform(get("/queries")).andExpect(status().isOk());
+
+        // then
+        assertThat(QueryCounter.getStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void 요청마다_0부터_다시_집계하고_요청_밖의_문장은_집계하지_않는다() throws Exception {
+        // given
+        mockMvc.perform(get("/queries")).andExpect(status().isOk());
+
+        // when
+        mockMvc.perform(get("/queries")).andExpect(status().isOk());
+        QueryCounter.recordStatement();  // 요청이 끝난 뒤의 문장
+
+        // then
+        assertThat(QueryCounter.getStatementCount()).isEqualTo(3);
+    }
+
+    @RestController
+    static class QueryController {
+
+        @GetMapping("/queries")
+        String queries() {
+            QueryCounter.recordStatement();
+            QueryCounter.recordStatement();
+            return "ok";
+        }
+    }
+}
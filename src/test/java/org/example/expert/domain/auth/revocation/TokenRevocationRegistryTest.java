@@ -0,0 +1,113 @@
+package org.example.expert.domain.auth.revocation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationRegistryTest {
+
+    @Mock
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private TokenRevocationRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new TokenRevocationRegistry(tokenRevocationRepository, transactionTemplate, 1000);
+    }
+
+    private static JwtUtil.VerifiedToken token(String jti, long userId, long tokenVersion) {
+        AuthUser authUser = new AuthUser(userId, "user@example.com", "nickname", UserRole.USER, null);
+        return new JwtUtil.VerifiedToken(authUser, jti, tokenVersion, System.currentTimeMillis() + JwtUtil.TOKEN_TIME);
+    }
+
+    @Test
+    void 로그아웃한_토큰만_폐기된다() {
+        // given
+        when(tokenRevocationRepository.save(any(TokenRevocation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        registry.revokeToken(token("jti-1", 1L, 0L));
+
+        // then
+        assertThat(registry.isRevoked(token("jti-1", 1L, 0L))).isTrue();
+        assertThat(registry.isRevoked(token("jti-2", 1L, 0L))).isFalse();
+    }
+
+    @Test
+    void 사용자_전체_폐기는_이전_버전의_토큰에만_적용된다() {
+        // given
+        User user = new User(1L, "user@example.com", "nickname", UserRole.USER);
+        when(tokenRevocationRepository.save(any(TokenRevocation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        registry.revokeAllTokens(user);
+
+        // then
+        assertThat(user.getTokenVersion()).isEqualTo(1L);
+        assertThat(registry.isRevoked(token("jti-1", 1L, 0L))).isTrue();
+        assertThat(registry.isRevoked(token("jti-2", 1L, 1L))).isFalse();
+        assertThat(registry.isRevoked(token("jti-3", 2L, 0L))).isFalse();
+    }
+
+    @Test
+    void 전체_폐기_직후_다시_발급한_토큰은_폐기되지_않는다() {
+        // given
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(new byte[32]));
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", 100L);
+        ReflectionTestUtils.setField(jwtUtil, "meterRegistry", new SimpleMeterRegistry());
+        jwtUtil.init();
+
+        User user = new User(1L, "user@example.com", "nickname", UserRole.USER);
+        when(tokenRevocationRepository.save(any(TokenRevocation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        String oldToken = jwtUtil.substringToken(
+                jwtUtil.createToken(user.getId(), user.getEmail(), user.getNickname(), UserRole.USER, user.getTokenVersion()));
+
+        // when
+        registry.revokeAllTokens(user);
+        // 같은 초(iat) 안에 다시 로그인
+        String newToken = jwtUtil.substringToken(
+                jwtUtil.createToken(user.getId(), user.getEmail(), user.getNickname(), UserRole.ADMIN, user.getTokenVersion()));
+
+        // then
+        assertThat(registry.isRevoked(jwtUtil.verify(oldToken).orElseThrow())).isTrue();
+        assertThat(registry.isRevoked(jwtUtil.verify(newToken).orElseThrow())).isFalse();
+    }
+
+    @Test
+    void 다른_노드에서_기록한_폐기_정보를_주기적으로_반영한다() {
+        // given
+        TokenRevocation revocation = TokenRevocation.ofToken("jti-1", 1L, LocalDateTime.now().plusHours(1));
+        when(tokenRevocationRepository.findByExpiresAtAfter(any(LocalDateTime.class))).thenReturn(List.of(revocation));
+
+        // when
+        registry.refresh();
+
+        // then
+        assertThat(registry.isRevoked(token("jti-1", 1L, 0L))).isTrue();
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.expert.domain.comment.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.index.TodoTitleIndex;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.index.UserNicknameIndex;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserReferenceResolver;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.example.expert.config.QueryCountAssertions.assertQueryCount;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, CommentService.class, UserReferenceResolver.class, TodoTitleIndex.class, UserNicknameIndex.class})
+class CommentServiceQueryCountTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Test
+    void 댓글_목록은_작성자와_함께_한_번의_쿼리로_조회한다() {
+        // given
+        User user = userRepository.save(new User("comment@example.com", "commenter", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        for (int i = 0; i < 3; i++) {
+            commentRepository.save(new Comment("comment" + i, user, todo));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        AtomicReference<CursorResponse<CommentResponse>> page = new AtomicReference<>();
+
+        // when & then
+        assertQueryCount(1, () -> page.set(commentService.getComments(todo.getId(), null, 20)));
+        assertThat(page.get().getContent()).hasSize(3);
+        assertThat(page.get().getContent()).allSatisfy(comment ->
+                assertThat(comment.getUser().getEmail()).isEqualTo("comment@example.com"));
+    }
+
+    @Test
+    void 댓글_저장은_작성자를_조회하지_않고_Todo_조회와_INSERT_UPDATE만_실행한다() {
+        // given
+        User user = userRepository.save(new User("writer@example.com", "writer", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        entityManager.flush();
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), user.getNickname(), UserRole.USER, null);
+
+        // 작성자 존재 확인과 시퀀스 할당은 처음 한 번만 발생하므로 미리 실행
+        commentService.saveComment(authUser, todo.getId(), new CommentSaveRequest("warm up"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when & then
+        // Todo 조회 + 댓글 수 UPDATE + 댓글 INSERT
+        assertQueryCount(3, () -> {
+            commentService.saveComment(authUser, todo.getId(), new CommentSaveRequest("contents"));
+            entityManager.flush();
+        });
+    }
+
+    @Test
+    void 여러_Todo의_댓글은_한_번의_쿼리로_Todo별_최대_개수까지_요청_순서대로_조회한다() {
+        // given
+        User writer = userRepository.save(new User("bulk@example.com", "bulk", UserRole.USER));
+        User other = userRepository.save(new User("bulk-other@example.com", "bulk-other", UserRole.USER));
+        Todo many = todoRepository.save(new Todo("many", "contents", "Sunny", writer));
+        Todo none = todoRepository.save(new Todo("none", "contents", "Sunny", writer));
+        Todo few = todoRepository.save(new Todo("few", "contents", "Sunny", writer));
+        for (int i = 0; i < 5; i++) {
+            commentRepository.save(new Comment("many" + i, writer, many));
+        }
+        for (int i = 0; i < 2; i++) {
+            commentRepository.save(new Comment("few" + i, other, few));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        AtomicReference<Map<Long, List<CommentResponse>>> result = new AtomicReference<>();
+
+        // when & then
+        assertQueryCount(1, () -> result.set(commentService.getCommentsByTodoIds(
+                List.of(few.getId(), many.getId(), none.getId(), many.getId()), 3)));
+
+        assertThat(result.get().keySet()).containsExactly(few.getId(), many.getId(), none.getId());  // 중복 제거, 요청 순서 유지
+        assertThat(result.get().get(many.getId()))
+                .extracting(CommentResponse::getContents)
+                .containsExactly("many0", "many1", "many2");  // Todo별 최대 3개, 작성 순서
+        assertThat(result.get().get(none.getId())).isEmpty();
+        assertThat(result.get().get(few.getId()))
+                .allSatisfy(comment -> {
+                    assertThat(comment.getUser().getId()).isEqualTo(other.getId());
+                    assertThat(comment.getUser().getEmail()).isEqualTo("bulk-other@example.com");
+                })
+                .extracting(CommentResponse::getContents)
+                .containsExactly("few0", "few1");
+    }
+
+    @Test
+    void 여러_Todo의_댓글_조회는_ID_개수나_limit_범위를_벗어나면_조회_없이_거부한다() {
+        // given
+        List<Long> tooManyIds = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        // when & then
+        assertQueryCount(0, () -> {
+            assertThatThrownBy(() -> commentService.getCommentsByTodoIds(tooManyIds, 10))
+                    .isInstanceOf(InvalidRequestException.class);
+            assertThatThrownBy(() -> commentService.getCommentsByTodoIds(List.of(1L), 0))
+                    .isInstanceOf(InvalidRequestException.class);
+            assertThatThrownBy(() -> commentService.getCommentsByTodoIds(List.of(1L), 51))
+                    .isInstanceOf(InvalidRequestException.class);
+        });
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.service.UserReferenceResolver;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CommentServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UserReferenceResolver userReferenceResolver;
+
+    @InjectMocks
+    private CommentService commentService;
+
+    private static Comment comment(long id, String contents, User user, Todo todo) {
+        Comment comment = new Comment(contents, user, todo);
+        ReflectionTestUtils.setField(comment, "id", id);
+        return comment;
+    }
+
+    @Test
+    void 댓글_목록은_각_댓글의_작성자_정보를_반환한다() {
+        // given
+        User writer = new User(1L, "writer@example.com", "writer", UserRole.USER);
+        User other = new User(2L, "other@example.com", "other", UserRole.USER);
+        Todo todo = new Todo("title", "contents", "Sunny", writer);
+        ReflectionTestUtils.setField(todo, "id", 10L);
+
+        when(commentRepository.findFirstPageByTodoIdWithUser(10L, PageRequest.of(0, 21))).thenReturn(List.of(
+                comment(100L, "first", writer, todo),
+                comment(101L, "second", other, todo)
+        ));
+
+        // when
+        CursorResponse<CommentResponse> comments = commentService.getComments(10L, null, 20);
+
+        // then
+        assertThat(comments.isHasNext()).isFalse();
+        assertThat(comments.getContent())
+                .extracting(CommentResponse::getId, comment -> comment.getUser().getId(), comment -> comment.getUser().getEmail())
+                .containsExactly(
+                        tuple(100L, 1L, "writer@example.com"),
+                        tuple(101L, 2L, "other@example.com")
+                );
+    }
+
+    @Test
+    void 댓글_목록은_최대_100개까지만_조회하고_다음_커서를_반환한다() {
+        // given
+        User writer = new User(1L, "writer@example.com", "writer", UserRole.USER);
+        Todo todo = new Todo("title", "contents", "Sunny", writer);
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 15, 9, 0);
+
+        List<Comment> rows = new ArrayList<>();
+        for (long id = 1; id <= 101; id++) {
+            Comment comment = comment(id, "comment" + id, writer, todo);
+            ReflectionTestUtils.setField(comment, "createdAt", createdAt.plusSeconds(id));
+            rows.add(comment);
+        }
+        // 요청 크기와 관계없이 최대 100 + 1건만 조회
+        when(commentRepository.findFirstPageByTodoIdWithUser(10L, PageRequest.of(0, 101))).thenReturn(rows);
+
+        // when
+        CursorResponse<CommentResponse> comments = commentService.getComments(10L, null, 1000);
+
+        // then
+        assertThat(comments.getContent()).hasSize(100);
+        assertThat(comments.isHasNext()).isTrue();
+        assertThat(Cursor.decode(comments.getNextCursor()).getId()).isEqualTo(100L);
+    }
+}
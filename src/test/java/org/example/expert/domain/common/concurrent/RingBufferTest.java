@@ -0,0 +1,99 @@
+package org.example.expert.domain.common.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RingBufferTest {
+
+    private static class LongEvent {
+        long value;
+    }
+
+    private static boolean publish(RingBuffer<LongEvent> buffer, long value) {
+        long sequence = buffer.tryClaim();
+        if (sequence < 0) {
+            return false;
+        }
+        buffer.get(sequence).value = value;
+        buffer.publish(sequence);
+        return true;
+    }
+
+    @Test
+    void 발행한_순서대로_소비하고_슬롯을_재사용한다() {
+        // given
+        RingBuffer<LongEvent> buffer = new RingBuffer<>(4, LongEvent::new);
+        List<Long> consumed = new ArrayList<>();
+
+        // when
+        for (long round = 0; round < 3; round++) {
+            for (long i = 0; i < 4; i++) {
+                assertThat(publish(buffer, round * 4 + i)).isTrue();
+            }
+            buffer.drain(event -> consumed.add(event.value), Integer.MAX_VALUE);
+        }
+
+        // then
+        assertThat(consumed).containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void 가득_차면_기다리지_않고_실패한다() {
+        // given
+        RingBuffer<LongEvent> buffer = new RingBuffer<>(3, LongEvent::new); // 4로 올림
+
+        // when
+        for (long i = 0; i < 4; i++) {
+            publish(buffer, i);
+        }
+
+        // then
+        assertThat(buffer.capacity()).isEqualTo(4);
+        assertThat(publish(buffer, 4L)).isFalse();
+        assertThat(buffer.drain(event -> { }, 1)).isEqualTo(1);
+        assertThat(publish(buffer, 4L)).isTrue();
+    }
+
+    @Test
+    void 여러_생산자가_동시에_발행해도_유실이나_중복이_없다() throws InterruptedException {
+        // given
+        int producers = 4;
+        int perProducer = 10_000;
+        RingBuffer<LongEvent> buffer = new RingBuffer<>(1024, LongEvent::new);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+        Set<Long> consumed = new HashSet<>();
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p * perProducer;
+            executor.execute(() -> {
+                for (long i = 0; i < perProducer; i++) {
+                    while (!publish(buffer, base + i)) {
+                        Thread.onSpinWait();  // 소비자가 비울 때까지 재시도
+                    }
+                }
+                done.countDown();
+            });
+        }
+        while (done.getCount() > 0 || buffer.size() > 0) {
+            buffer.drain(event -> consumed.add(event.value), 256);
+        }
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(consumed).hasSize(producers * perProducer);
+    }
+}
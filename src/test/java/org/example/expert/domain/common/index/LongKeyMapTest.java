@@ -0,0 +1,62 @@
+package org.example.expert.domain.common.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongKeyMapTest {
+
+    @Test
+    void 용량을_넘겨_추가해도_모든_키를_조회할_수_있다() {
+        // given
+        LongKeyMap<String> map = new LongKeyMap<>();
+
+        // when
+        for (long key = 0; key < 1_000; key++) {
+            long value = key;
+            map.computeIfAbsent(key * 65_536, () -> "v" + value);
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(1_000);
+        for (long key = 0; key < 1_000; key++) {
+            assertThat(map.get(key * 65_536)).isEqualTo("v" + key);
+        }
+        assertThat(map.get(-1L)).isNull();
+    }
+
+    @Test
+    void 이미_있는_키는_새로_만들지_않는다() {
+        // given
+        LongKeyMap<String> map = new LongKeyMap<>();
+        map.computeIfAbsent(7L, () -> "first");
+
+        // when
+        String result = map.computeIfAbsent(7L, () -> "second");
+
+        // then
+        assertThat(result).isEqualTo("first");
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 키를_제거해도_남은_키의_탐사_경로가_유지된다() {
+        // given
+        LongKeyMap<Long> map = new LongKeyMap<>();
+        for (long key = 0; key < 500; key++) {
+            long value = key;
+            map.computeIfAbsent(key, () -> value);
+        }
+
+        // when
+        for (long key = 0; key < 500; key += 2) {
+            map.remove(key);
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(250);
+        for (long key = 0; key < 500; key++) {
+            assertThat(map.get(key)).isEqualTo(key % 2 == 0 ? null : key);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.expert.domain.common.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrigramIndexTest {
+
+    @Test
+    void 대소문자를_구분하지_않고_부분_문자열_후보를_찾는다() {
+        // given
+        TrigramIndex index = new TrigramIndex();
+        index.add(1L, "Spring Boot Study");
+        index.add(2L, "spring cleaning");
+        index.add(3L, "Weekly report");
+
+        // when
+        long[] result = index.search("SPRING");
+
+        // then
+        assertThat(result).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 일치하는_trigram이_없으면_빈_배열을_반환한다() {
+        // given
+        TrigramIndex index = new TrigramIndex();
+        index.add(1L, "Spring Boot Study");
+
+        // when & then
+        assertThat(index.search("kotlin")).isEmpty();
+    }
+
+    @Test
+    void 검색어가_3자_미만이면_null을_반환한다() {
+        // given
+        TrigramIndex index = new TrigramIndex();
+        index.add(1L, "Spring Boot Study");
+
+        // when & then
+        assertThat(index.search("sp")).isNull();
+    }
+
+    @Test
+    void 제거된_항목은_검색되지_않는다() {
+        // given
+        TrigramIndex index = new TrigramIndex();
+        index.add(1L, "Spring Boot Study");
+        index.add(2L, "spring cleaning");
+
+        // when
+        index.remove(1L, "Spring Boot Study");
+
+        // then
+        assertThat(index.search("spring")).containsExactly(2L);
+    }
+
+    @Test
+    void 순서와_관계없이_추가해도_후보는_오름차순이다() {
+        // given
+        TrigramIndex index = new TrigramIndex();
+        index.add(30L, "todo three");
+        index.add(10L, "todo one");
+        index.add(20L, "todo two");
+        index.add(10L, "todo one");
+
+        // when & then
+        assertThat(index.search("todo")).containsExactly(10L, 20L, 30L);
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.expert.domain.manager.log;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogWriterTest {
+
+    private static final Duration NO_PERIODIC_FLUSH = Duration.ofHours(1);
+
+    @Mock
+    private LogRepository logRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AuditLogWriter auditLogWriter;
+
+    private AuditLogWriter writer(int bufferSize, int batchSize) {
+        auditLogWriter = new AuditLogWriter(logRepository, new TransactionTemplate(transactionManager),
+                bufferSize, batchSize, NO_PERIODIC_FLUSH);
+        return auditLogWriter;
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (auditLogWriter != null) {
+            auditLogWriter.shutdown();
+        }
+    }
+
+    @Test
+    void 종료하면_남은_로그를_모두_저장한다() throws InterruptedException {
+        // given
+        AuditLogWriter writer = writer(16, 100);
+        writer.record("MANAGER_REGISTRATION", "1");
+        writer.record("MANAGER_REGISTRATION", "2");
+        writer.record("MANAGER_REGISTRATION", "3");
+
+        // when
+        writer.shutdown();
+
+        // then
+        verify(logRepository, times(1)).saveAll(anyList());  // 한 번의 배치로 저장
+        assertThat(writer.getWrittenCount()).isEqualTo(3);
+        assertThat(writer.getBufferDepth()).isZero();
+    }
+
+    @Test
+    void 배치_크기만큼_쌓이면_주기를_기다리지_않고_저장한다() throws InterruptedException {
+        // given
+        AuditLogWriter writer = writer(16, 2);
+
+        // when
+        writer.record("MANAGER_REGISTRATION", "1");
+        writer.record("MANAGER_REGISTRATION", "2");
+
+        // then
+        verify(logRepository, timeout(5_000)).saveAll(anyList());
+        writer.shutdown();
+        verify(logRepository, times(1)).saveAll(anyList());
+        assertThat(writer.getWrittenCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 버퍼가_가득_차면_버리고_건수를_기록한다() throws InterruptedException {
+        // given
+        AuditLogWriter writer = writer(2, 100);
+
+        // when
+        writer.record("MANAGER_REGISTRATION", "1");
+        writer.record("MANAGER_REGISTRATION", "2");
+        writer.record("MANAGER_REGISTRATION", "3");
+        writer.shutdown();
+
+        // then
+        assertThat(writer.getDroppedCount()).isEqualTo(1);
+        assertThat(writer.getWrittenCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 저장에_실패하면_실패_건수를_기록한다() throws InterruptedException {
+        // given
+        AuditLogWriter writer = writer(16, 100);
+        when(logRepository.saveAll(anyList())).thenThrow(new IllegalStateException("DB 오류"));
+        writer.record("MANAGER_REGISTRATION", "1");
+        writer.record("MANAGER_REGISTRATION", "2");
+
+        // when
+        writer.shutdown();
+
+        // then
+        assertThat(writer.getFailedCount()).isEqualTo(2);
+        assertThat(writer.getWrittenCount()).isZero();
+    }
+
+    @Test
+    void 종료된_뒤의_기록은_예외_없이_버린다() throws InterruptedException {
+        // given
+        AuditLogWriter writer = writer(16, 1);
+        writer.shutdown();
+
+        // when & then
+        assertThatCode(() -> writer.record("MANAGER_REGISTRATION", "1")).doesNotThrowAnyException();
+        assertThat(writer.getDroppedCount()).isEqualTo(1);
+        verify(logRepository, never()).saveAll(anyList());
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.expert.domain.manager.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.log.AuditLogWriter;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.index.TodoTitleIndex;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.index.UserNicknameIndex;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.example.expert.config.QueryCountAssertions.assertQueryCount;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, ManagerService.class, TodoTitleIndex.class, UserNicknameIndex.class})
+class ManagerServiceQueryCountTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ManagerService managerService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @MockBean
+    private AuditLogWriter auditLogWriter;
+
+    private Todo saveTodo() {
+        User user = userRepository.save(new User("manager@example.com", "manager", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        entityManager.flush();
+        entityManager.clear();
+        return todo;
+    }
+
+    @Test
+    void 매니저_목록은_한_번의_쿼리로_조회한다() {
+        // given
+        Todo todo = saveTodo();
+        AtomicReference<List<ManagerResponse>> managers = new AtomicReference<>();
+
+        // when & then
+        assertQueryCount(1, () -> managers.set(managerService.getManagers(todo.getId())));
+        assertThat(managers.get()).hasSize(1);
+        assertThat(managers.get().get(0).getUser().getEmail()).isEqualTo("manager@example.com");
+    }
+
+    @Test
+    void 매니저가_없으면_Todo_존재_여부만_추가로_확인한다() {
+        // given
+        Todo todo = saveTodo();
+        managerRepository.deleteByTodoIdIn(List.of(todo.getId()));
+
+        // when & then
+        assertQueryCount(2, () -> assertThat(managerService.getManagers(todo.getId())).isEmpty());
+    }
+
+    @Test
+    void 존재하지_않는_Todo의_매니저를_조회하면_예외가_발생한다() {
+        // when & then
+        assertQueryCount(2, () -> assertThatThrownBy(() -> managerService.getManagers(-1L))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Todo not found"));
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.expert.domain.todo.cache;
+
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoCountCacheTest {
+
+    private final TodoCountCache cache = new TodoCountCache(60, 100);
+
+    @Test
+    void 캐시된_건수는_다시_계산하지_않는다() {
+        // given
+        AtomicInteger counts = new AtomicInteger();
+        cache.get("list|Sunny", () -> count(counts, 10));
+
+        // when
+        long total = cache.get("list|Sunny", () -> count(counts, 20));
+
+        // then
+        assertThat(total).isEqualTo(10);
+        assertThat(counts.get()).isEqualTo(1);
+    }
+
+    @Test
+    void Todo가_생성되거나_삭제되면_전체를_무효화하고_수정은_무시한다() {
+        // given
+        AtomicInteger counts = new AtomicInteger();
+        cache.get("list|Sunny", () -> count(counts, 10));
+
+        // when & then
+        cache.onTodoChanged(new TodoChangedEvent(1L, TodoChangedEvent.Type.UPDATED));
+        assertThat(cache.get("list|Sunny", () -> count(counts, 11))).isEqualTo(10);
+
+        cache.onTodoChanged(new TodoChangedEvent(1L, TodoChangedEvent.Type.CREATED));
+        assertThat(cache.get("list|Sunny", () -> count(counts, 11))).isEqualTo(11);
+
+        cache.onTodoChanged(new TodoChangedEvent(1L, TodoChangedEvent.Type.DELETED));
+        assertThat(cache.get("list|Sunny", () -> count(counts, 12))).isEqualTo(12);
+        assertThat(counts.get()).isEqualTo(3);
+    }
+
+    @Test
+    void 계산_중에_무효화되면_계산한_건수는_반환만_하고_저장하지_않는다() throws Exception {
+        // given
+        AtomicInteger counts = new AtomicInteger();
+        CountDownLatch counting = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        AtomicLong during = new AtomicLong();
+
+        Thread reader = new Thread(() -> during.set(cache.get("list|Sunny", () -> {
+            long stale = count(counts, 10);  // 커밋 전 건수를 계산함
+            counting.countDown();
+            await(committed);
+            return stale;
+        })));
+        reader.start();
+        counting.await(5, TimeUnit.SECONDS);
+
+        // when
+        cache.onTodoChanged(new TodoChangedEvent(1L, TodoChangedEvent.Type.CREATED));
+        committed.countDown();
+        reader.join(5_000);
+
+        long after = cache.get("list|Sunny", () -> count(counts, 11));
+
+        // then
+        assertThat(during.get()).isEqualTo(10);
+        assertThat(after).isEqualTo(11);
+        assertThat(counts.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 조건_키는_문자열_앞뒤_공백을_제거하고_null은_빈_값으로_만든다() {
+        // when & then
+        assertThat(TodoCountCache.key("search", " spring ", null, 3))
+                .isEqualTo(TodoCountCache.key("search", "spring", null, 3))
+                .isEqualTo("search|spring||3");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long count(AtomicInteger counts, long total) {
+        counts.incrementAndGet();
+        return total;
+    }
+}
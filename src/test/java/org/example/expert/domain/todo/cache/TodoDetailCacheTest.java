@@ -0,0 +1,116 @@
+package org.example.expert.domain.todo.cache;
+
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.event.UserChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoDetailCacheTest {
+
+    private final TodoDetailCache cache = new TodoDetailCache(100, 300);
+
+    @Test
+    void 캐시된_항목은_다시_조회하지_않는다() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, id -> load(loads, id, "old"));
+
+        // when
+        TodoResponse result = cache.get(1L, id -> load(loads, id, "new"));
+
+        // then
+        assertThat(result.getTitle()).isEqualTo("old");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 조회_중에_무효화되면_조회한_값은_반환만_하고_저장하지_않는다() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        AtomicReference<TodoResponse> during = new AtomicReference<>();
+
+        Thread reader = new Thread(() -> during.set(cache.get(1L, id -> {
+            TodoResponse stale = load(loads, id, "old");  // 커밋 전 값을 읽음
+            loading.countDown();
+            await(committed);
+            return stale;
+        })));
+        reader.start();
+        loading.await(5, TimeUnit.SECONDS);
+
+        // when
+        Thread writer = new Thread(() -> cache.onTodoChanged(new TodoChangedEvent(1L, TodoChangedEvent.Type.UPDATED)));
+        writer.start();
+        while (writer.getState() != Thread.State.BLOCKED && writer.getState() != Thread.State.WAITING
+                && writer.getState() != Thread.State.TERMINATED) {
+            Thread.onSpinWait();  // 무효화가 시작될 때까지 대기
+        }
+        committed.countDown();
+        reader.join(5_000);
+        writer.join(5_000);
+
+        TodoResponse after = cache.get(1L, id -> load(loads, id, "new"));
+
+        // then
+        assertThat(during.get().getTitle()).isEqualTo("old");
+        assertThat(after.getTitle()).isEqualTo("new");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 작성자가_변경되면_조회_중인_항목도_저장하지_않는다() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        cache.get(1L, id -> {
+            TodoResponse stale = load(loads, id, "old");
+            cache.onUserChanged(new UserChangedEvent(10L, "changed", false));  // 조회 중 작성자 변경이 커밋됨
+            return stale;
+        });
+        TodoResponse after = cache.get(1L, id -> load(loads, id, "new"));
+
+        // then
+        assertThat(after.getTitle()).isEqualTo("new");
+    }
+
+    @Test
+    void 다른_Todo의_무효화는_캐시된_항목에_영향이_없다() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, id -> load(loads, id, "old"));
+
+        // when
+        cache.evict(2L);
+        TodoResponse result = cache.get(1L, id -> load(loads, id, "new"));
+
+        // then
+        assertThat(result.getTitle()).isEqualTo("old");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static TodoResponse load(AtomicInteger loads, long todoId, String title) {
+        loads.incrementAndGet();
+        LocalDateTime now = LocalDateTime.now();
+        return new TodoResponse(todoId, title, "contents", "Sunny", new UserResponse(10L, "a@a.com"), now, now, 0L, 0L);
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.expert.domain.todo.controller;
 
 import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.auth.revocation.TokenRevocationRegistry;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
@@ -19,12 +20,25 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print; // 추가: print 메서드 import
@@ -41,6 +55,9 @@ class TodoControllerTest {
     @MockBean
     private JwtUtil jwtUtil;
 
+    @MockBean
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
     @MockBean
     private BCryptPasswordEncoder bCryptPasswordEncoder;
 
@@ -73,7 +90,9 @@ class TodoControllerTest {
                 "Sunny",
                 userResponse,
                 LocalDateTime.now(),
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                0L,
+                1L
         );
 
         // JWT 토큰 생성
@@ -111,4 +130,82 @@ class TodoControllerTest {
                 .andExpect(jsonPath("$.message").value("Todo not found"))
                 .andDo(print()); // 요청과 응답을 출력
     }
+
+    @Test
+    void todo_목록은_ISO_날짜로_조회한다() throws Exception {
+        // given
+        String token = generateToken();
+
+        // when
+        mockMvc.perform(get("/todos")
+                        .header("Authorization", "Bearer " + token)
+                        .param("weather", "Sunny")
+                        .param("startDate", "2025-01-01T00:00:00")
+                        .param("endDate", "2025-01-31T23:59:59"))
+                .andExpect(status().isOk());
+
+        // then
+        verify(todoService).getTodos(1, 10, "Sunny",
+                LocalDateTime.of(2025, 1, 1, 0, 0, 0), LocalDateTime.of(2025, 1, 31, 23, 59, 59), false);
+    }
+
+    @Test
+    void cursor_파라미터가_있으면_커서_목록으로_조회한다() throws Exception {
+        // given
+        String token = generateToken();
+
+        // when
+        mockMvc.perform(get("/todos")
+                        .header("Authorization", "Bearer " + token)
+                        .param("cursor", "")
+                        .param("weather", "Sunny")
+                        .param("startDate", "2025-01-01T00:00:00")
+                        .param("endDate", "2025-01-31T23:59:59"))
+                .andExpect(status().isOk());
+
+        // then
+        verify(todoService).getTodosByCursor("", 10, "Sunny",
+                LocalDateTime.of(2025, 1, 1, 0, 0, 0), LocalDateTime.of(2025, 1, 31, 23, 59, 59));
+    }
+
+    @Test
+    void slice와_cursor를_함께_전달하면_400을_반환한다() throws Exception {
+        // given
+        String token = generateToken();
+
+        // when & then
+        mockMvc.perform(get("/todos")
+                        .header("Authorization", "Bearer " + token)
+                        .param("slice", "true")
+                        .param("cursor", "")
+                        .param("weather", "Sunny")
+                        .param("startDate", "2025-01-01T00:00:00")
+                        .param("endDate", "2025-01-31T23:59:59"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(todoService);
+    }
+
+    @Test
+    void todo_내보내기는_NDJSON으로_스트리밍한다() throws Exception {
+        // given
+        String token = generateToken();
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(3);
+            out.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(todoService).exportTodos(eq("Sunny"), isNull(), isNull(), any(OutputStream.class));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/todos/export")
+                        .header("Authorization", "Bearer " + token)
+                        .param("weather", "Sunny"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
 }
@@ -0,0 +1,57 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.index.TodoTitleIndex;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.index.UserNicknameIndex;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({PersistenceConfig.class, TodoTitleIndex.class, UserNicknameIndex.class})
+class TodoBatchInsertTest {
+
+    private static final int TODO_COUNT = 20;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void Todo와_담당자_저장이_배치_INSERT로_묶인다() {
+        // given
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        // when
+        User user = userRepository.save(new User("batch@example.com", "batch", UserRole.USER));
+        for (int i = 0; i < TODO_COUNT; i++) {
+            todoRepository.save(new Todo("title" + i, "contents" + i, "Sunny", user));
+        }
+        entityManager.flush();
+
+        // then
+        // 사용자 1 + Todo 20 + 담당자 20 = 41건 INSERT
+        // IDENTITY였다면 INSERT마다 문장을 준비하여 41회 왕복했으나,
+        // 시퀀스 조회(테이블당 최대 2회) + 테이블별 배치 INSERT(3회)로 줄어든다
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + TODO_COUNT * 2L);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(9);
+    }
+}
@@ -0,0 +1,190 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.log.AuditLogWriter;
+import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.cache.TodoDetailCache;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.index.TodoTitleIndex;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.index.UserNicknameIndex;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserReferenceResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, TodoCountReconciler.class, TodoDetailCache.class, CommentService.class, ManagerService.class,
+        UserReferenceResolver.class, TodoTitleIndex.class, UserNicknameIndex.class})
+class TodoCountReconcilerTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TodoCountReconciler todoCountReconciler;
+
+    @Autowired
+    private TodoDetailCache todoDetailCache;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private ManagerService managerService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @MockBean
+    private AuditLogWriter auditLogWriter;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("counter@example.com", "counter", UserRole.USER));
+        todoDetailCache.invalidateAll();
+    }
+
+    private Todo saveTodo(int comments) {
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        for (int i = 0; i < comments; i++) {
+            commentRepository.save(new Comment("comment" + i, user, todo));
+        }
+        entityManager.flush();
+        todoRepository.addCommentCount(todo.getId(), comments);  // 서비스와 같이 증감 UPDATE로 댓글 수 반영
+        return todo;
+    }
+
+    private Todo reload(Todo todo) {
+        entityManager.flush();
+        entityManager.clear();  // 증감/보정 UPDATE는 영속성 컨텍스트를 거치지 않으므로 다시 조회
+        return todoRepository.findById(todo.getId()).orElseThrow();
+    }
+
+    private void cacheDetail(Todo todo) {
+        LocalDateTime now = LocalDateTime.now();
+        todoDetailCache.get(todo.getId(), id -> new TodoResponse(
+                id, "title", "contents", "Sunny", new UserResponse(user.getId(), user.getEmail()), now, now, 0L, 1L));
+    }
+
+    @Test
+    void 실제_값과_다른_댓글_수와_담당자_수만_보정한다() {
+        // given
+        Todo commentDrift = saveTodo(2);
+        Todo managerDrift = saveTodo(0);
+        Todo consistent = saveTodo(3);
+        todoRepository.addCommentCount(commentDrift.getId(), 5);  // 누락/중복된 증감 UPDATE로 생긴 오차
+        todoRepository.addManagerCount(managerDrift.getId(), -1);
+        Long maxId = todoRepository.findMaxId();
+
+        // when
+        int fixed = todoRepository.reconcileCounts(1L, maxId);
+
+        // then
+        assertThat(fixed).isEqualTo(2);  // 오차가 있는 행만 변경
+        assertThat(todoRepository.reconcileCounts(1L, maxId)).isZero();
+        assertThat(reload(commentDrift).getCommentCount()).isEqualTo(2);
+        assertThat(reload(managerDrift).getManagerCount()).isEqualTo(1);
+        assertThat(reload(consistent).getCommentCount()).isEqualTo(3);
+        assertThat(reload(consistent).getManagerCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 보정된_Todo가_있으면_상세_캐시를_비운다() {
+        // given
+        Todo drift = saveTodo(1);
+        Todo consistent = saveTodo(1);
+        todoRepository.addCommentCount(drift.getId(), 3);
+        entityManager.clear();
+        cacheDetail(consistent);
+
+        // when
+        todoCountReconciler.reconcile();
+
+        // then
+        assertThat(reload(drift).getCommentCount()).isEqualTo(1);
+        assertThat(todoDetailCache.size()).isZero();  // 보정 전 수치가 캐시되어 있을 수 있으므로 모두 제거
+    }
+
+    @Test
+    void 보정할_Todo가_없으면_상세_캐시를_유지한다() {
+        // given
+        Todo todo = saveTodo(1);
+        entityManager.clear();
+        cacheDetail(todo);
+
+        // when
+        todoCountReconciler.reconcile();
+
+        // then
+        assertThat(todoDetailCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 댓글_저장은_댓글_수를_증가시킨다() {
+        // given
+        Todo todo = saveTodo(0);
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), user.getNickname(), UserRole.USER, null);
+
+        // when
+        commentService.saveComment(authUser, todo.getId(), new CommentSaveRequest("first"));
+        commentService.saveComment(authUser, todo.getId(), new CommentSaveRequest("second"));
+
+        // then
+        assertThat(reload(todo).getCommentCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 댓글_수_감소_UPDATE는_댓글_수를_줄인다() {
+        // given
+        Todo todo = saveTodo(3);
+
+        // when
+        todoRepository.addCommentCount(todo.getId(), -1);
+
+        // then
+        assertThat(reload(todo).getCommentCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 담당자_저장과_삭제는_담당자_수를_증감시킨다() {
+        // given
+        Todo todo = saveTodo(0);  // 작성자가 담당자로 등록되어 1명
+        User managerUser = userRepository.save(new User("manager@example.com", "manager", UserRole.USER));
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), user.getNickname(), UserRole.USER, null);
+
+        // when & then
+        long managerId = managerService.saveManager(authUser, todo.getId(), new ManagerSaveRequest(managerUser.getId())).getId();
+        assertThat(reload(todo).getManagerCount()).isEqualTo(2);
+
+        managerService.deleteManager(authUser, todo.getId(), managerId);
+        assertThat(reload(todo).getManagerCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.cache.TodoCountCache;
+import org.example.expert.domain.todo.cache.TodoDetailCache;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.index.TodoTitleIndex;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.index.UserNicknameIndex;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserReferenceResolver;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "jpa.jdbc.batch-size=500")  // 대량 저장을 큰 배치로 전송
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({PersistenceConfig.class, TodoService.class, UserReferenceResolver.class, TodoTitleIndex.class,
+        UserNicknameIndex.class, TodoCountCache.class, TodoDetailCache.class})
+class TodoServiceExportTest {
+
+    private static final int SUNNY_COUNT = 1_201; // 영속성 컨텍스트를 비우는 간격(500건)을 두 번 넘는 건수
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    @Test
+    void 조건에_맞는_Todo를_한_줄에_하나씩_누락과_중복_없이_내보낸다() throws Exception {
+        // given
+        User first = userRepository.save(new User("first@example.com", "first", UserRole.USER));
+        User second = userRepository.save(new User("second@example.com", "second", UserRole.USER));
+        List<Long> expectedIds = new ArrayList<>();
+        for (int i = 0; i < SUNNY_COUNT; i++) {
+            Todo todo = todoRepository.save(new Todo("title" + i, "contents" + i, "Sunny", i % 2 == 0 ? first : second));
+            expectedIds.add(todo.getId());
+        }
+        for (int i = 0; i < 3; i++) {
+            todoRepository.save(new Todo("rainy" + i, "contents", "Rainy", first));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        todoService.exportTodos("Sunny", null, null, out);
+
+        // then
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertThat(body).endsWith("\n");
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(SUNNY_COUNT);
+
+        List<Long> exportedIds = new ArrayList<>();
+        for (int i = 0; i < lines.length; i++) {
+            JsonNode todo = objectMapper.readTree(lines[i]);
+            exportedIds.add(todo.get("id").asLong());
+            assertThat(todo.get("weather").asText()).isEqualTo("Sunny");
+            assertThat(todo.get("user").get("email").asText())
+                    .isEqualTo(i % 2 == 0 ? "first@example.com" : "second@example.com");
+        }
+        assertThat(exportedIds).containsExactlyElementsOf(expectedIds);  // ID 오름차순, 누락/중복 없음
+    }
+}
@@ -0,0 +1,350 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.SliceResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.cache.TodoCountCache;
+import org.example.expert.domain.todo.cache.TodoDetailCache;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.index.TodoTitleIndex;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.index.UserNicknameIndex;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserReferenceResolver;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.example.expert.config.QueryCountAssertions.assertQueryCount;
+
+@DataJpaTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({PersistenceConfig.class, TodoService.class, UserReferenceResolver.class, TodoTitleIndex.class,
+        UserNicknameIndex.class, TodoCountCache.class, TodoDetailCache.class})
+class TodoServiceQueryCountTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TodoTitleIndex todoTitleIndex;
+
+    @Autowired
+    private UserNicknameIndex userNicknameIndex;
+
+    @Autowired
+    private TodoCountCache todoCountCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    private List<Todo> saveTodos(String email, String nickname, int count) {
+        User user = userRepository.save(new User(email, nickname, UserRole.USER));
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            todos.add(todoRepository.save(new Todo("spring study " + i, "contents", "Sunny", user)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return todos;
+    }
+
+    private long countByTodoIds(String entity, List<Long> todoIds) {
+        return entityManager.createQuery("SELECT COUNT(e) FROM " + entity + " e WHERE e.todo.id IN :todoIds", Long.class)
+                .setParameter("todoIds", todoIds)
+                .getSingleResult();
+    }
+
+    private static AuthUser authUser(User user) {
+        return new AuthUser(user.getId(), user.getEmail(), user.getNickname(), UserRole.USER, null);
+    }
+
+    @Test
+    void Todo_단건은_한_번의_쿼리로_조회하고_이후에는_캐시에서_반환한다() {
+        // given
+        Todo todo = saveTodos("detail@example.com", "detail", 1).get(0);
+        AtomicReference<TodoResponse> response = new AtomicReference<>();
+
+        // when & then
+        assertQueryCount(1, () -> response.set(todoService.getTodo(todo.getId())));
+        assertQueryCount(0, () -> todoService.getTodo(todo.getId()));
+        assertThat(response.get().getUser().getEmail()).isEqualTo("detail@example.com");
+    }
+
+    @Test
+    void 마지막_페이지_목록은_COUNT_없이_한_번의_쿼리로_조회한다() {
+        // given
+        saveTodos("list@example.com", "list", 3);
+        AtomicReference<Page<TodoResponse>> page = new AtomicReference<>();
+
+        // when & then
+        assertQueryCount(1, () -> page.set(todoService.getTodos(1, 10, null, null, null, false)));
+        assertThat(page.get().getContent()).hasSize(3);
+    }
+
+    @Test
+    void 전체_건수가_필요한_목록은_목록과_COUNT_두_번의_쿼리로_조회한다() {
+        // given
+        saveTodos("count@example.com", "count", 3);
+        AtomicReference<Page<TodoResponse>> page = new AtomicReference<>();
+
+        // when & then
+        assertQueryCount(2, () -> page.set(todoService.getTodos(1, 2, null, null, null, false)));
+        assertThat(page.get().getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    void 근사_전체_건수를_요청하면_두_번째_조회부터_COUNT를_캐시에서_읽는다() {
+        // given
+        saveTodos("approximate@example.com", "approximate", 3);
+        todoCountCache.invalidateAll();
+        AtomicReference<Page<TodoResponse>> page = new AtomicReference<>();
+
+        // when & then
+        assertQueryCount(2, () -> todoService.getTodos(1, 2, null, null, null, true));
+        assertQueryCount(1, () -> page.set(todoService.getTodos(1, 2, null, null, null, true)));
+        assertThat(page.get().getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    void 근사_전체_건수로_검색하면_대소문자가_다른_검색어도_같은_캐시를_사용한다() {
+        // given
+        saveTodos("approximate-search@example.com", "approximate", 3);
+        todoCountCache.invalidateAll();
+        AtomicReference<Page<TodoSearchResponse>> page = new AtomicReference<>();
+
+        // when & then
+        assertQueryCount(2, () -> todoService.searchTodos(null, 1, 2, "Spring", null, null, null, true));
+        assertQueryCount(1, () -> page.set(todoService.searchTodos(null, 1, 2, "SPRING", null, null, null, true)));
+        assertThat(page.get().getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    void 슬라이스_목록은_COUNT_없이_한_번의_쿼리로_다음_페이지_여부를_판단한다() {
+        // given
+        saveTodos("slice@example.com", "slice", 3);
+        AtomicReference<SliceResponse<TodoResponse>> first = new AtomicReference<>();
+        AtomicReference<SliceResponse<TodoResponse>> last = new AtomicReference<>();
+
+        // when & then
+        assertQueryCount(1, () -> first.set(todoService.getTodoSlice(1, 2, null, null, null)));
+        assertQueryCount(1, () -> last.set(todoService.getTodoSlice(2, 2, null, null, null)));
+        assertThat(first.get().getContent()).hasSize(2);
+        assertThat(first.get().isHasNext()).isTrue();
+        assertThat(last.get().getContent()).hasSize(1);
+        assertThat(last.get().isHasNext()).isFalse();
+    }
+
+    @Test
+    void 슬라이스_검색은_COUNT_없이_한_번의_쿼리로_다음_페이지_여부를_판단한다() {
+        // given
+        saveTodos("slice-search@example.com", "slice", 3);
+        AtomicReference<SliceResponse<TodoSearchResponse>> first = new AtomicReference<>();
+        AtomicReference<SliceResponse<TodoSearchResponse>> last = new AtomicReference<>();
+
+        // when & then
+        assertQueryCount(1, () -> first.set(todoService.searchTodoSlice(1, 2, "study", null, null, null)));
+        assertQueryCount(1, () -> last.set(todoService.searchTodoSlice(2, 2, "study", null, null, null)));
+        assertThat(first.get().getContent()).hasSize(2);
+        assertThat(first.get().isHasNext()).isTrue();
+        assertThat(last.get().getContent()).hasSize(1);
+        assertThat(last.get().isHasNext()).isFalse();
+    }
+
+    @Test
+    void 커서_목록은_페이지와_관계없이_한_번의_쿼리로_조회한다() {
+        // given
+        saveTodos("cursor@example.com", "cursor", 3);
+        AtomicReference<CursorResponse<TodoResponse>> first = new AtomicReference<>();
+        AtomicReference<CursorResponse<TodoResponse>> second = new AtomicReference<>();
+
+        // when & then
+        assertQueryCount(1, () -> first.set(todoService.getTodosByCursor(null, 2, null, null, null)));
+        assertQueryCount(1, () -> second.set(todoService.getTodosByCursor(first.get().getNextCursor(), 2, null, null, null)));
+        assertThat(first.get().getContent()).hasSize(2);
+        assertThat(second.get().getContent()).hasSize(1);
+    }
+
+    @Test
+    void 색인을_사용한_검색은_한_번의_쿼리로_조회한다() {
+        // given
+        List<Todo> todos = saveTodos("indexed@example.com", "indexed", 2);
+        todos.forEach(todo -> todoTitleIndex.add(todo.getId(), todo.getTitle()));
+        userNicknameIndex.put(todos.get(0).getUser().getId(), "indexed");
+        todoTitleIndex.markSynced(LocalDateTime.now().minusMinutes(1));
+        userNicknameIndex.markSynced(LocalDateTime.now().minusMinutes(1));
+        AtomicReference<Page<TodoSearchResponse>> page = new AtomicReference<>();
+
+        // when & then
+        assertQueryCount(1, () -> page.set(todoService.searchTodos(
+                null, 1, 10, "study", null, null, "index", false)));
+        assertThat(page.get().getContent()).hasSize(2);
+    }
+
+    @Test
+    void 색인에_아직_반영되지_않은_최근_Todo도_한_번의_쿼리로_검색한다() {
+        // given
+        saveTodos("recent@example.com", "recent", 2);  // 다른 노드에서 저장되어 이 노드의 색인에는 없는 상태
+        todoTitleIndex.markSynced(LocalDateTime.now().minusMinutes(1));
+        userNicknameIndex.markSynced(LocalDateTime.now().minusMinutes(1));
+        AtomicReference<Page<TodoSearchResponse>> page = new AtomicReference<>();
+
+        // when & then
+        assertQueryCount(1, () -> page.set(todoService.searchTodos(
+                null, 1, 10, "Spring", null, null, "RECENT", false)));
+        assertThat(page.get().getContent()).hasSize(2);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // saveTodo는 자체 트랜잭션으로 커밋하므로 테스트 트랜잭션을 사용하지 않음
+    void Todo_저장은_작성자를_조회하지_않고_Todo와_담당자_INSERT만_실행한다() {
+        // given
+        User user = userRepository.save(new User("save@example.com", "saver", UserRole.USER));
+        AuthUser authUser = authUser(user);
+        List<Long> todoIds = new ArrayList<>();
+        try {
+            // 작성자 존재 확인과 시퀀스 할당은 처음 한 번만 발생하므로 미리 실행
+            todoIds.add(todoService.saveTodo(authUser, new TodoSaveRequest("warm up", "contents")).getId());
+
+            // when & then
+            assertQueryCount(2, () -> todoIds.add(
+                    todoService.saveTodo(authUser, new TodoSaveRequest("title", "contents")).getId()));
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> {
+                managerRepository.deleteByTodoIdIn(todoIds);
+                todoRepository.deleteByIdIn(todoIds);
+                userRepository.deleteById(user.getId());
+            });
+        }
+    }
+
+    @Test
+    void Todo_삭제는_댓글_수와_관계없이_일정한_문장_수로_실행한다() {
+        // given
+        List<Todo> todos = saveTodos("delete@example.com", "deleter", 3);
+        User user = userRepository.findById(todos.get(0).getUser().getId()).orElseThrow();
+        for (Todo todo : todos) {
+            for (int i = 0; i < 30; i++) {
+                commentRepository.save(new Comment("comment" + i, user, todo));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when & then
+        // 소유자 확인 + 댓글/담당자/Todo DELETE 각 한 번
+        assertQueryCount(4, () -> todoService.deleteTodo(authUser(user), todos.get(0).getId()));
+        assertQueryCount(4, () -> todoService.deleteTodos(authUser(user), List.of(todos.get(1).getId(), todos.get(2).getId())));
+        List<Long> todoIds = todos.stream().map(Todo::getId).toList();
+        assertThat(todoRepository.findAllById(todoIds)).isEmpty();
+        assertThat(countByTodoIds("Comment", todoIds)).isZero();
+        assertThat(countByTodoIds("Manager", todoIds)).isZero();
+    }
+
+    @Test
+    void 존재하지_않거나_다른_사용자의_Todo가_하나라도_있으면_아무것도_삭제하지_않는다() {
+        // given
+        Todo mine = saveTodos("owner@example.com", "owner", 1).get(0);
+        Todo others = saveTodos("other@example.com", "other", 1).get(0);
+        User owner = userRepository.findById(mine.getUser().getId()).orElseThrow();
+
+        // when & then
+        assertThatThrownBy(() -> todoService.deleteTodos(authUser(owner), List.of(mine.getId(), others.getId())))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> todoService.deleteTodos(authUser(owner), List.of(mine.getId(), Long.MAX_VALUE)))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThat(todoRepository.existsById(mine.getId())).isTrue();
+        assertThat(todoRepository.existsById(others.getId())).isTrue();
+    }
+
+    @Test
+    void 한_번에_100개를_넘는_Todo는_조회_없이_거부한다() {
+        // given
+        User user = userRepository.save(new User("limit@example.com", "limit", UserRole.USER));
+        List<Long> todoIds = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        // when & then
+        assertQueryCount(0, () -> assertThatThrownBy(() -> todoService.deleteTodos(authUser(user), todoIds))
+                .isInstanceOf(InvalidRequestException.class));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // 커밋/롤백 이후의 색인 상태를 확인하므로 테스트 트랜잭션을 사용하지 않음
+    void 삭제가_커밋된_경우에만_제목_색인에서_제거한다() {
+        // given
+        User user = userRepository.save(new User("index@example.com", "indexer", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("removable title", "contents", "Sunny", user));
+        todoTitleIndex.add(todo.getId(), todo.getTitle());
+        todoTitleIndex.markSynced(LocalDateTime.now().minusMinutes(1));
+        try {
+            // when (롤백)
+            transactionTemplate.executeWithoutResult(status -> {
+                todoService.deleteTodos(authUser(user), List.of(todo.getId()));
+                status.setRollbackOnly();
+            });
+
+            // then
+            assertThat(todoRepository.existsById(todo.getId())).isTrue();
+            assertThat(todoTitleIndex.findCandidateIds("removable")).contains(todo.getId());
+
+            // when (커밋)
+            todoService.deleteTodo(authUser(user), todo.getId());
+
+            // then
+            assertThat(todoRepository.existsById(todo.getId())).isFalse();
+            assertThat(todoTitleIndex.findCandidateIds("removable")).doesNotContain(todo.getId());
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> {
+                managerRepository.deleteByTodoIdIn(List.of(todo.getId()));
+                todoRepository.deleteByIdIn(List.of(todo.getId()));
+                userRepository.deleteById(user.getId());
+            });
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.todo.event.TodoWeatherPendingEvent;
+import org.example.expert.domain.todo.index.TodoTitleIndex;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.service.UserReferenceResolver;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TodoServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private UserReferenceResolver userReferenceResolver;
+
+    @Mock
+    private WeatherClient weatherClient;
+
+    @Mock
+    private TodoTitleIndex todoTitleIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private TodoService todoService;
+
+    @Test
+    void 날씨_조회는_트랜잭션_시작_전에_끝난다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "user@example.com", "nickname", UserRole.USER, null);
+        User user = new User(1L, "user@example.com", "nickname", UserRole.USER);
+
+        when(weatherClient.findTodayWeather()).thenReturn(Optional.of("Sunny"));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(userReferenceResolver.resolve(authUser)).thenReturn(user);
+        when(todoRepository.save(any(Todo.class))).thenAnswer(invocation -> {
+            Todo todo = invocation.getArgument(0);
+            ReflectionTestUtils.setField(todo, "id", 10L);
+            return todo;
+        });
+
+        // when
+        TodoSaveResponse response = todoService.saveTodo(authUser, new TodoSaveRequest("title", "contents"));
+
+        // then
+        assertThat(response.getWeather()).isEqualTo("Sunny");
+
+        InOrder inOrder = inOrder(weatherClient, transactionTemplate, userReferenceResolver, todoRepository);
+        inOrder.verify(weatherClient).findTodayWeather();
+        inOrder.verify(transactionTemplate).execute(any());
+        inOrder.verify(userReferenceResolver).resolve(authUser);
+        inOrder.verify(todoRepository).save(any(Todo.class));
+    }
+
+    @Test
+    void 적재된_날씨가_없으면_PENDING으로_저장하고_날씨_대기_이벤트를_발행한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "user@example.com", "nickname", UserRole.USER, null);
+        User user = new User(1L, "user@example.com", "nickname", UserRole.USER);
+
+        when(weatherClient.findTodayWeather()).thenReturn(Optional.empty());
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(userReferenceResolver.resolve(authUser)).thenReturn(user);
+        ArgumentCaptor<Todo> todoCaptor = ArgumentCaptor.forClass(Todo.class);
+        when(todoRepository.save(todoCaptor.capture())).thenAnswer(invocation -> {
+            Todo todo = invocation.getArgument(0);
+            ReflectionTestUtils.setField(todo, "id", 10L);
+            return todo;
+        });
+
+        // when
+        TodoSaveResponse response = todoService.saveTodo(authUser, new TodoSaveRequest("title", "contents"));
+
+        // then
+        assertThat(response.getWeather()).isNull();
+        assertThat(todoCaptor.getValue().getWeatherStatus()).isEqualTo(WeatherStatus.PENDING);
+        verify(eventPublisher).publishEvent(any(TodoWeatherPendingEvent.class));
+        verify(weatherClient, never()).refreshAsync();  // API 호출이나 적재를 기다리지 않음
+    }
+}
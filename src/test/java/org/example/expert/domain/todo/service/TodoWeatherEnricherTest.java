@@ -0,0 +1,150 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.todo.dto.TodoPendingWeatherDto;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.MonthDay;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TodoWeatherEnricherTest {
+
+    private static final LocalDateTime JAN_15 = LocalDateTime.of(2025, 1, 15, 9, 0);
+    private static final LocalDateTime JAN_16 = LocalDateTime.of(2025, 1, 16, 9, 0);
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private WeatherClient weatherClient;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TodoWeatherEnricher enricher;
+
+    @BeforeEach
+    void setUp() {
+        enricher = new TodoWeatherEnricher(todoRepository, weatherClient, transactionTemplate, eventPublisher, 10);
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void 데이터에_없는_날짜는_다른_날짜에_영향을_주지_않고_UNAVAILABLE로_바뀐다() {
+        // given
+        when(weatherClient.isLoaded()).thenReturn(true);
+        when(weatherClient.findWeather(MonthDay.from(JAN_15))).thenReturn(Optional.of("Sunny"));
+        when(weatherClient.findWeather(MonthDay.from(JAN_16))).thenReturn(Optional.empty());
+        when(weatherClient.getFallbackWeather()).thenReturn(Optional.empty());
+
+        // when
+        enricher.resolve(List.of(new TodoPendingWeatherDto(1L, JAN_15), new TodoPendingWeatherDto(2L, JAN_16)));
+
+        // then
+        verify(todoRepository).resolvePendingWeather(List.of(1L), "Sunny");
+        verify(todoRepository).markWeatherUnavailable(List.of(2L));
+    }
+
+    @Test
+    void 데이터에_없는_날짜는_대체_값이_있으면_대체_값으로_채운다() {
+        // given
+        when(weatherClient.isLoaded()).thenReturn(true);
+        when(weatherClient.findWeather(MonthDay.from(JAN_16))).thenReturn(Optional.empty());
+        when(weatherClient.getFallbackWeather()).thenReturn(Optional.of("Unknown"));
+
+        // when
+        enricher.resolve(List.of(new TodoPendingWeatherDto(2L, JAN_16)));
+
+        // then
+        verify(todoRepository).resolvePendingWeather(List.of(2L), "Unknown");
+        verify(todoRepository, never()).markWeatherUnavailable(anyCollection());
+    }
+
+    @Test
+    void 한_날짜의_저장에_실패해도_다른_날짜는_처리한다() {
+        // given
+        when(weatherClient.isLoaded()).thenReturn(true);
+        when(weatherClient.findWeather(MonthDay.from(JAN_15))).thenReturn(Optional.of("Sunny"));
+        when(weatherClient.findWeather(MonthDay.from(JAN_16))).thenReturn(Optional.of("Cloudy"));
+        when(todoRepository.resolvePendingWeather(List.of(1L), "Sunny")).thenThrow(new IllegalStateException("DB 오류"));
+
+        // when
+        enricher.resolve(List.of(new TodoPendingWeatherDto(1L, JAN_15), new TodoPendingWeatherDto(2L, JAN_16)));
+
+        // then
+        verify(todoRepository).resolvePendingWeather(List.of(2L), "Cloudy");
+    }
+
+    @Test
+    void 날씨_데이터가_적재되지_않았으면_PENDING으로_남겨_재처리한다() {
+        // given
+        when(weatherClient.isLoaded()).thenReturn(false);
+
+        // when
+        enricher.resolve(List.of(new TodoPendingWeatherDto(1L, JAN_15)));
+
+        // then
+        verify(weatherClient).refreshAsync();
+        verify(todoRepository, never()).resolvePendingWeather(anyCollection(), anyString());
+        verify(todoRepository, never()).markWeatherUnavailable(anyCollection());
+    }
+
+    @Test
+    void 재처리는_이미_큐에_있는_Todo를_다시_담지_않는다() {
+        // given
+        when(todoRepository.findPendingWeather(any(), any())).thenReturn(List.of(new TodoPendingWeatherDto(1L, JAN_15)));
+
+        // when
+        enricher.sweep();
+        enricher.sweep();
+
+        // then
+        assertThat(enricher.getQueueDepth()).isEqualTo(1);
+        assertThat(enricher.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void 백필_지연은_재처리_시점에_조회한_값으로_DB_조회_없이_계산한다() {
+        // given
+        LocalDateTime oldest = LocalDateTime.now().minusMinutes(10);
+        when(todoRepository.findOldestPendingWeatherCreatedAt()).thenReturn(oldest);
+        assertThat(enricher.getBackfillLagSeconds()).isZero();  // 재처리 전에는 값이 없음
+
+        // when
+        enricher.sweep();
+
+        // then
+        assertThat(enricher.getBackfillLagSeconds()).isBetween(600L, 660L);
+        assertThat(enricher.getBackfillLagSeconds()).isBetween(600L, 660L);
+        verify(todoRepository, times(1)).findOldestPendingWeatherCreatedAt();
+    }
+}
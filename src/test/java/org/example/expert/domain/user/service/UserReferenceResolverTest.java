@@ -0,0 +1,77 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.event.UserChangedEvent;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserReferenceResolverTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserReferenceResolver userReferenceResolver;
+
+    private final AuthUser authUser = new AuthUser(1L, "user@example.com", "nickname", UserRole.USER, null);
+
+    @BeforeEach
+    void setUp() {
+        userReferenceResolver = new UserReferenceResolver(userRepository, 100, 600);
+    }
+
+    @Test
+    void 존재가_확인된_사용자는_다시_조회하지_않고_참조를_반환한다() {
+        // given
+        User reference = new User(1L, "user@example.com", "nickname", UserRole.USER);
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.getReferenceById(1L)).thenReturn(reference);
+
+        // when
+        User first = userReferenceResolver.resolve(authUser);
+        User second = userReferenceResolver.resolve(authUser);
+
+        // then
+        assertThat(first).isSameAs(reference);
+        assertThat(second).isSameAs(reference);
+        verify(userRepository, times(1)).existsById(1L);
+    }
+
+    @Test
+    void 존재하지_않는_사용자는_예외가_발생한다() {
+        // given
+        when(userRepository.existsById(1L)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> userReferenceResolver.resolve(authUser))
+                .isInstanceOf(AuthException.class)
+                .hasMessage("존재하지 않는 사용자입니다.");
+    }
+
+    @Test
+    void 삭제된_사용자는_다시_존재_여부를_확인한다() {
+        // given
+        when(userRepository.existsById(1L)).thenReturn(true, false);
+        userReferenceResolver.resolve(authUser);
+
+        // when
+        userReferenceResolver.onUserChanged(new UserChangedEvent(1L, null, true));
+
+        // then
+        assertThatThrownBy(() -> userReferenceResolver.resolve(authUser))
+                .isInstanceOf(AuthException.class);
+    }
+}